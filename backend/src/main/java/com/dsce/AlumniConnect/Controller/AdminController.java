@@ -2,15 +2,23 @@ package com.dsce.AlumniConnect.Controller;
 
 import com.dsce.AlumniConnect.Repository.UserRepository;
 import com.dsce.AlumniConnect.Repository.EventRepository;
+import com.dsce.AlumniConnect.Repository.EventRSVPRepository;
 import com.dsce.AlumniConnect.entity.Event;
 import com.dsce.AlumniConnect.entity.User;
 import com.dsce.AlumniConnect.DTO.EventDTO;
 import com.dsce.AlumniConnect.DTO.ErrorResponse;
+import com.dsce.AlumniConnect.Service.AlumniService;
+import com.dsce.AlumniConnect.Service.CalendarFeedService;
 import com.dsce.AlumniConnect.Service.EventService;
+import com.dsce.AlumniConnect.Service.PostCascadeDeleteService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,7 +37,12 @@ public class AdminController {
 
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final EventRSVPRepository eventRSVPRepository;
     private final EventService eventService;
+    private final AlumniService alumniService;
+    private final PostCascadeDeleteService postCascadeDeleteService;
+    private final CalendarFeedService calendarFeedService;
+    private final MongoTemplate mongoTemplate;
 
    @GetMapping("/analytics")
 public ResponseEntity<?> getAnalytics() {
@@ -265,6 +278,17 @@ private LocalDate parseDateFromMonthYear(User.WorkExperience experience) {
     return null;
 }
 
+    @GetMapping("/alumni")
+    public ResponseEntity<?> getAllAlumni() {
+        try {
+            return ResponseEntity.ok(alumniService.getAllAlumni());
+        } catch (Exception e) {
+            log.error("Error fetching alumni for admin: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Failed to fetch alumni"));
+        }
+    }
+
     @GetMapping("/verifications")
     public ResponseEntity<?> getAllVerifications() {
         try {
@@ -322,10 +346,30 @@ private LocalDate parseDateFromMonthYear(User.WorkExperience experience) {
         }
     }
 
+    // Progress of background post deletions that have not completed
+    @GetMapping("/post-deletions")
+    public ResponseEntity<?> getPostDeletionJobs() {
+        try {
+            return ResponseEntity.ok(postCascadeDeleteService.getUnfinishedJobs());
+        } catch (Exception e) {
+            log.error("Error fetching post deletion jobs: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Failed to fetch post deletion jobs"));
+        }
+    }
+
+    @GetMapping("/post-deletions/{postId}")
+    public ResponseEntity<?> getPostDeletionJob(@PathVariable String postId) {
+        return postCascadeDeleteService.getJob(postId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse("No deletion job for post " + postId)));
+    }
+
     @GetMapping("/events")
     public ResponseEntity<List<EventDTO>> getAllEventsForAdmin() {
         try {
-            List<EventDTO> eventDTOs = eventService.getAllEventDTOs();
+            List<EventDTO> eventDTOs = eventService.withPendingViews(eventService.getAllEventDTOs());
             return ResponseEntity.ok(eventDTOs);
         } catch (Exception e) {
             log.error("Error fetching events for admin: {}", e.getMessage());
@@ -341,10 +385,8 @@ private LocalDate parseDateFromMonthYear(User.WorkExperience experience) {
     })
     public ResponseEntity<EventDTO> featureEvent(@PathVariable String eventId) {
         try {
-            Event event = eventRepository.findById(eventId)
-                    .orElseThrow(() -> new RuntimeException("Event not found"));
-            event.setFeatured(true);
-            Event savedEvent = eventRepository.save(event);
+            Event savedEvent = setFeatured(eventId, true);
+            calendarFeedService.eventsChanged();
             log.info("Event {} featured by admin", eventId);
             return ResponseEntity.ok(convertToDTO(savedEvent));
         } catch (Exception e) {
@@ -360,10 +402,8 @@ private LocalDate parseDateFromMonthYear(User.WorkExperience experience) {
     })
     public ResponseEntity<EventDTO> unfeatureEvent(@PathVariable String eventId) {
         try {
-            Event event = eventRepository.findById(eventId)
-                    .orElseThrow(() -> new RuntimeException("Event not found"));
-            event.setFeatured(false);
-            Event savedEvent = eventRepository.save(event);
+            Event savedEvent = setFeatured(eventId, false);
+            calendarFeedService.eventsChanged();
             log.info("Event {} unfeatured by admin", eventId);
             return ResponseEntity.ok(convertToDTO(savedEvent));
         } catch (Exception e) {
@@ -372,6 +412,15 @@ private LocalDate parseDateFromMonthYear(User.WorkExperience experience) {
         }
     }
 
+    // Targeted $set: a full save would write back a stale registeredCount and buffered view counters
+    private Event setFeatured(String eventId, boolean featured) {
+        Query byId = new Query(Criteria.where("id").is(eventId));
+        if (mongoTemplate.updateFirst(byId, new Update().set("featured", featured), Event.class).getMatchedCount() == 0) {
+            throw new RuntimeException("Event not found");
+        }
+        return mongoTemplate.findOne(byId, Event.class);
+    }
+
     @DeleteMapping("/events/{eventId}")
     @Caching(evict = {
         @CacheEvict(value = "allEvents", allEntries = true),
@@ -383,6 +432,8 @@ private LocalDate parseDateFromMonthYear(User.WorkExperience experience) {
                 return ResponseEntity.notFound().build();
             }
             eventRepository.deleteById(eventId);
+            eventRSVPRepository.deleteByEventId(eventId); // Keeps RSVP counts in step with existing events
+            calendarFeedService.eventsChanged();
             log.info("Event {} deleted by admin", eventId);
             return ResponseEntity.ok().build();
         } catch (Exception e) {
@@ -400,6 +451,8 @@ private LocalDate parseDateFromMonthYear(User.WorkExperience experience) {
         dto.setStarttime(event.getStarttime());
         dto.setEndtime(event.getEndtime());
         dto.setTime(event.getTime());
+        dto.setStartAt(event.getStartAt());
+        dto.setEndAt(event.getEndAt());
         dto.setDescription(event.getDescription());
         dto.setCategory(event.getCategory());
         dto.setMaxParticipants(event.getMaxParticipants());
@@ -1,12 +1,15 @@
 package com.dsce.AlumniConnect.Controller;
 
-import com.dsce.AlumniConnect.DTO.UserProfileDTO;
+import com.dsce.AlumniConnect.DTO.ErrorResponse;
+import com.dsce.AlumniConnect.Service.AlumniSearchService;
 import com.dsce.AlumniConnect.Service.AlumniService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -16,7 +19,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AlumniController {
 
+    private static final int DEFAULT_PAGE_SIZE = 24;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+
     private final AlumniService alumniservice;
+    private final AlumniSearchService alumniSearchService;
 
     @GetMapping("/alumni/check")
     public ResponseEntity<String> checkAlumniRouter() {
@@ -24,16 +32,33 @@ public class AlumniController {
         return ResponseEntity.ok("Alumni Router is working!");
     }
 
+    // Paged directory cards; a bare /alumni is the first page. Full profiles for admins are at /api/admin/alumni
     @GetMapping("/alumni")
-    public ResponseEntity<?> getAllAlumni() {
-        List<UserProfileDTO> allAlum = alumniservice.getAllAlumni();
-        log.info("Returning {} alumni. IDs: {}", allAlum.size(),
-                allAlum.stream().map(UserProfileDTO::getId).collect(java.util.stream.Collectors.toList()));
+    public ResponseEntity<?> getAlumniPage(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Integer graduationYear,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String skill,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        int pageNumber = page != null ? Math.max(page, 0) : 0;
+        int pageSize = size != null ? Math.min(Math.max(size, 1), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        return ResponseEntity.ok(alumniservice.getAlumniPage(department, graduationYear, company, skill,
+                pageNumber, pageSize));
+    }
 
-        if (allAlum.isEmpty()) {
-            log.info("No alumni found");
+    // Ranked full-text search; terms are ANDed, "OR" (or '|') separates alternatives, e.g. "java spring OR golang"
+    @GetMapping("/alumni/search")
+    public ResponseEntity<?> searchAlumni(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        if (!alumniSearchService.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ErrorResponse("Alumni search is still starting up"));
         }
-        return ResponseEntity.ok(allAlum);
+        int max = limit != null ? limit : DEFAULT_SEARCH_LIMIT;
+        List<String> ids = alumniSearchService.search(q, max);
+        return ResponseEntity.ok(alumniservice.getCards(ids));
     }
 
     @GetMapping("/alumni/{id}")
@@ -1,6 +1,8 @@
 package com.dsce.AlumniConnect.Controller;
 
+import com.dsce.AlumniConnect.DTO.CommentPageResponse;
 import com.dsce.AlumniConnect.DTO.CommentResponse;
+import com.dsce.AlumniConnect.DTO.CommentThreadPageResponse;
 import com.dsce.AlumniConnect.DTO.CreateCommentRequest;
 import com.dsce.AlumniConnect.Service.CommentService;
 import jakarta.validation.Valid;
@@ -18,6 +20,9 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class CommentController {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final CommentService commentService;
 
 
@@ -33,11 +38,21 @@ public class CommentController {
         }
     }
 
+    // Passing a cursor (empty for the first page) returns one page plus the cursor of the next
     @GetMapping("/post/{postId}")
-    public ResponseEntity<?> getCommentsByPostId(@PathVariable String postId, Authentication authentication) {
+    public ResponseEntity<?> getCommentsByPostId(
+            @PathVariable String postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
         try {
             log.info("Fetching comments for post: {} by user: {}", postId, authentication.getName());
 
+            if (cursor != null) {
+                CommentPageResponse page = commentService.getCommentPage(postId, authentication.getName(), cursor,
+                        clampSize(size));
+                return ResponseEntity.ok(page);
+            }
             List<CommentResponse> comments = commentService.getCommentsByPostId(postId, authentication.getName());
             return ResponseEntity.ok(comments);
         } catch (Exception e) {
@@ -46,6 +61,41 @@ public class CommentController {
         }
     }
 
+    // Root comments with their first replies; cursor pages through roots
+    @GetMapping("/post/{postId}/threads")
+    public ResponseEntity<?> getCommentThreads(
+            @PathVariable String postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "3") int replies,
+            Authentication authentication) {
+        try {
+            CommentThreadPageResponse threads = commentService.getCommentThreads(postId, authentication.getName(),
+                    cursor, clampSize(size), Math.min(Math.max(replies, 1), 20));
+            return ResponseEntity.ok(threads);
+        } catch (Exception e) {
+            log.error("Error fetching comment threads: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // More replies under a comment, continuing from a thread's repliesCursor
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<?> getReplies(
+            @PathVariable String commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
+        try {
+            CommentPageResponse page = commentService.getReplies(commentId, authentication.getName(), cursor,
+                    clampSize(size));
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            log.error("Error fetching replies: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @DeleteMapping("/{commentId}")
     public ResponseEntity<?> deleteComment(@PathVariable String commentId, Authentication authentication) {
         try {
@@ -57,4 +107,8 @@ public class CommentController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    private int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
 }
@@ -1,9 +1,9 @@
 package com.dsce.AlumniConnect.Controller;
 
 import com.dsce.AlumniConnect.Repository.DiscussionGroupRepository;
-import com.dsce.AlumniConnect.Repository.UserRepository;
 import com.dsce.AlumniConnect.entity.DiscussionGroup;
 import com.dsce.AlumniConnect.entity.User;
+import com.dsce.AlumniConnect.Service.CurrentUserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -22,7 +22,7 @@ import java.util.*;
 public class DiscussionGroupController {
 
     private final DiscussionGroupRepository groupRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
 
     @GetMapping
     public ResponseEntity<List<DiscussionGroup>> getAllGroups(
@@ -69,8 +69,7 @@ public class DiscussionGroupController {
                     .body(Map.of("error", "A group with this name already exists"));
         }
         
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         group.setCreatedBy(currentUser.getId());
         group.setCreatedByName(currentUser.getFirstName() + " " + currentUser.getLastName());
@@ -102,8 +101,7 @@ public class DiscussionGroupController {
         }
         
         DiscussionGroup group = existingGroup.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         // Check if user is creator or moderator
         if (!group.getCreatedBy().equals(currentUser.getId()) && 
@@ -142,8 +140,7 @@ public class DiscussionGroupController {
         }
         
         DiscussionGroup group = existingGroup.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         // Only creator or admin can delete
         if (!group.getCreatedBy().equals(currentUser.getId()) && 
@@ -174,8 +171,7 @@ public class DiscussionGroupController {
         }
         
         DiscussionGroup group = existingGroup.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         if (group.getMembers().contains(currentUser.getId())) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
@@ -205,8 +201,7 @@ public class DiscussionGroupController {
         }
         
         DiscussionGroup group = existingGroup.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         if (!group.getMembers().contains(currentUser.getId())) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
@@ -235,8 +230,7 @@ public class DiscussionGroupController {
         
         log.info("Fetching groups for current user");
         
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         List<DiscussionGroup> groups = groupRepository.findByMembersContainingOrderByLastPostAtDesc(currentUser.getId());
         
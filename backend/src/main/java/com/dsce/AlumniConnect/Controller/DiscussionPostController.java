@@ -3,11 +3,11 @@ package com.dsce.AlumniConnect.Controller;
 import com.dsce.AlumniConnect.Repository.DiscussionGroupRepository;
 import com.dsce.AlumniConnect.Repository.DiscussionTopicRepository;
 import com.dsce.AlumniConnect.Repository.DiscussionPostRepository;
-import com.dsce.AlumniConnect.Repository.UserRepository;
 import com.dsce.AlumniConnect.entity.DiscussionGroup;
 import com.dsce.AlumniConnect.entity.DiscussionTopic;
 import com.dsce.AlumniConnect.entity.DiscussionPost;
 import com.dsce.AlumniConnect.entity.User;
+import com.dsce.AlumniConnect.Service.CurrentUserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -28,7 +28,7 @@ public class DiscussionPostController {
     private final DiscussionPostRepository postRepository;
     private final DiscussionTopicRepository topicRepository;
     private final DiscussionGroupRepository groupRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final ForumWebSocketController webSocketController;
 
     @GetMapping("/topic/{topicId}")
@@ -86,8 +86,7 @@ public class DiscussionPostController {
         }
         
         DiscussionGroup g = group.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         // Check if private group and user is member
         if (g.getIsPrivate() && !g.getMembers().contains(currentUser.getId())) {
@@ -145,8 +144,7 @@ public class DiscussionPostController {
         }
         
         DiscussionPost post = existingPost.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         // Check if user is author or ADMIN
         if (!post.getAuthorId().equals(currentUser.getId()) && currentUser.getRole() != User.Role.ADMIN) {
@@ -181,8 +179,7 @@ public class DiscussionPostController {
         }
         
         DiscussionPost post = existingPost.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         // Check if user is author or moderator
         Optional<DiscussionTopic> topic = topicRepository.findById(post.getTopicId());
@@ -239,8 +236,7 @@ public class DiscussionPostController {
         }
         
         DiscussionPost post = existingPost.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         if (post.getLikedBy() == null) {
             post.setLikedBy(new ArrayList<>());
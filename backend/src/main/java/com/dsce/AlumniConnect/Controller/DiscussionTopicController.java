@@ -2,10 +2,11 @@ package com.dsce.AlumniConnect.Controller;
 
 import com.dsce.AlumniConnect.Repository.DiscussionGroupRepository;
 import com.dsce.AlumniConnect.Repository.DiscussionTopicRepository;
-import com.dsce.AlumniConnect.Repository.UserRepository;
 import com.dsce.AlumniConnect.entity.DiscussionGroup;
 import com.dsce.AlumniConnect.entity.DiscussionTopic;
 import com.dsce.AlumniConnect.entity.User;
+import com.dsce.AlumniConnect.Service.CurrentUserService;
+import com.dsce.AlumniConnect.Service.UniqueViewerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -25,8 +26,9 @@ public class DiscussionTopicController {
 
     private final DiscussionTopicRepository topicRepository;
     private final DiscussionGroupRepository groupRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final ForumWebSocketController webSocketController;
+    private final UniqueViewerService uniqueViewerService;
 
     @GetMapping("/group/{groupId}")
     public ResponseEntity<?> getTopicsByGroup(
@@ -53,7 +55,9 @@ public class DiscussionTopicController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getTopicById(@PathVariable String id) {
+    public ResponseEntity<?> getTopicById(
+            @PathVariable String id,
+            @AuthenticationPrincipal UserDetails userDetails) {
         log.info("Fetching topic: {}", id);
         
         Optional<DiscussionTopic> topic = topicRepository.findById(id);
@@ -62,10 +66,13 @@ public class DiscussionTopicController {
                     .body(Map.of("error", "Topic not found"));
         }
         
-        // Increment view count
+        // Unique viewers, persisted to uniqueViewers on a schedule rather than saved on every hit
         DiscussionTopic t = topic.get();
-        t.setViewCount(t.getViewCount() + 1);
-        topicRepository.save(t);
+        if (userDetails != null) {
+            uniqueViewerService.recordView(DiscussionTopic.class, id, userDetails.getUsername());
+        }
+        long stored = t.getUniqueViewers() != null ? t.getUniqueViewers() : 0;
+        t.setUniqueViewers(Math.max(stored, uniqueViewerService.count(DiscussionTopic.class, id)));
         
         return ResponseEntity.ok(t);
     }
@@ -84,8 +91,7 @@ public class DiscussionTopicController {
         }
         
         DiscussionGroup g = group.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         // Check if private group and user is member
         if (g.getIsPrivate() && !g.getMembers().contains(currentUser.getId())) {
@@ -141,8 +147,7 @@ public class DiscussionTopicController {
         }
         
         DiscussionTopic topic = existingTopic.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         // Check if user is author or ADMIN
         if (!topic.getAuthorId().equals(currentUser.getId()) && currentUser.getRole() != User.Role.ADMIN) {
@@ -180,8 +185,7 @@ public class DiscussionTopicController {
         }
         
         DiscussionTopic topic = existingTopic.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         // Check if user is author or moderator
         Optional<DiscussionGroup> group = groupRepository.findById(topic.getGroupId());
@@ -225,8 +229,7 @@ public class DiscussionTopicController {
         }
         
         DiscussionTopic topic = existingTopic.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         // Check if user is moderator
         Optional<DiscussionGroup> group = groupRepository.findById(topic.getGroupId());
@@ -261,8 +264,7 @@ public class DiscussionTopicController {
         }
         
         DiscussionTopic topic = existingTopic.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         // Check if user is moderator
         Optional<DiscussionGroup> group = groupRepository.findById(topic.getGroupId());
@@ -297,8 +299,7 @@ public class DiscussionTopicController {
         }
         
         DiscussionTopic topic = existingTopic.get();
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User currentUser = currentUserService.getUserByEmail(userDetails.getUsername());
         
         if (topic.getLikedBy() == null) {
             topic.setLikedBy(new ArrayList<>());
@@ -1,11 +1,20 @@
 package com.dsce.AlumniConnect.Controller;
 
 import com.dsce.AlumniConnect.DTO.EventDTO;
+import com.dsce.AlumniConnect.Service.CalendarFeedService;
 import com.dsce.AlumniConnect.Service.EventService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -14,16 +23,67 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class EventController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final String CALENDAR_TYPE = "text/calendar;charset=UTF-8";
+
     private final EventService eventService;
+    private final CalendarFeedService calendarFeedService;
 
+    // Without range parameters this is the full list; with any of them, a page of events by start time
     @GetMapping
-    public ResponseEntity<List<EventDTO>> getAllEvents() {
-        return ResponseEntity.ok(eventService.getAllEventsWithUserStatus());
+    public ResponseEntity<?> getAllEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        if (from == null && to == null && category == null && cursor == null && size == null) {
+            return ResponseEntity.ok(eventService.getAllEventsWithUserStatus());
+        }
+        int pageSize = size != null ? Math.min(Math.max(size, 1), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        return ResponseEntity.ok(eventService.getEventsInRange(from, to, category, cursor, pageSize));
     }
 
     @GetMapping("/featured")
     public ResponseEntity<List<EventDTO>> getFeaturedEvents() {
-        return ResponseEntity.ok(eventService.getFeaturedEvents());
+        return ResponseEntity.ok(eventService.withPendingViews(eventService.getFeaturedEvents()));
+    }
+
+    // Public iCalendar feed of featured events
+    @GetMapping(value = "/featured.ics", produces = CALENDAR_TYPE)
+    public ResponseEntity<StreamingResponseBody> getFeaturedCalendar(WebRequest request) {
+        String etag = calendarFeedService.etag(null);
+        if (etag != null && request.checkNotModified(etag)) {
+            return null; // 304 already written, no database work
+        }
+        return calendarResponse(etag, calendarFeedService::writeFeaturedFeed);
+    }
+
+    // iCalendar feed of the events a user RSVP'd to; calendar clients authenticate with the token in the URL
+    @GetMapping(value = "/calendar.ics", produces = CALENDAR_TYPE)
+    public ResponseEntity<StreamingResponseBody> getUserCalendar(@RequestParam String token, WebRequest request) {
+        String userId = calendarFeedService.userIdForToken(token);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String etag = calendarFeedService.etag(userId);
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        return calendarResponse(etag, out -> calendarFeedService.writeUserFeed(userId, out));
+    }
+
+    @GetMapping("/calendar-token")
+    public ResponseEntity<Map<String, String>> getCalendarToken() {
+        return calendarTokenResponse(eventService.getCalendarToken());
+    }
+
+    // Issues a new feed token; calendars still subscribed with an older one get 401 until re-subscribed
+    @PostMapping("/calendar-token/rotate")
+    public ResponseEntity<Map<String, String>> rotateCalendarToken() {
+        return calendarTokenResponse(eventService.rotateCalendarToken());
     }
 
     @PostMapping
@@ -32,10 +92,9 @@ public class EventController {
     }
 
     @PostMapping("/{id}/rsvp")
-    public ResponseEntity<Void> rsvpEvent(@PathVariable String id, @RequestBody Map<String, String> payload) {
+    public ResponseEntity<Map<String, String>> rsvpEvent(@PathVariable String id, @RequestBody Map<String, String> payload) {
         String status = payload.get("status");
-        eventService.rsvpEvent(id, status);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(Map.of("status", eventService.rsvpEvent(id, status)));
     }
 
     @GetMapping("/{id}")
@@ -44,8 +103,22 @@ public class EventController {
     }
     
     @PostMapping("/{id}/view")
-    public ResponseEntity<Void> incrementViewCount(@PathVariable String id) {
-        eventService.incrementViewCount(id);
+    public ResponseEntity<Void> incrementViewCount(@PathVariable String id, Authentication authentication) {
+        eventService.incrementViewCount(id, authentication != null ? authentication.getName() : null);
         return ResponseEntity.ok().build();
     }
+
+    private ResponseEntity<Map<String, String>> calendarTokenResponse(String token) {
+        return ResponseEntity.ok(Map.of("token", token, "path", "/api/events/calendar.ics?token=" + token));
+    }
+
+    private ResponseEntity<StreamingResponseBody> calendarResponse(String etag, StreamingResponseBody body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(CALENDAR_TYPE))
+                .cacheControl(CacheControl.noCache());
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(body);
+    }
 }
@@ -2,7 +2,9 @@ package com.dsce.AlumniConnect.Controller;
 
 import com.dsce.AlumniConnect.DTO.CreatePostRequest;
 import com.dsce.AlumniConnect.DTO.ErrorResponse;
+import com.dsce.AlumniConnect.DTO.PostFeedResponse;
 import com.dsce.AlumniConnect.DTO.PostResponse;
+import com.dsce.AlumniConnect.DTO.TrendingHashtag;
 import com.dsce.AlumniConnect.DTO.UpdatePostRequest;
 import com.dsce.AlumniConnect.Service.FileStorageService;
 import com.dsce.AlumniConnect.Service.PostService;
@@ -22,18 +24,38 @@ import java.util.List;
 @RequestMapping({ "/api/posts", "/posts" })
 @RequiredArgsConstructor
 public class PostController {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final PostService postService;
     private final FileStorageService fileStorageService;
 
-    // Get all posts (feed)
+    // Get all posts (feed), optionally for one department.
+    // Passing a cursor (empty for the first page) switches to keyset pagination; sort=trending ranks by engagement
+    // across all departments and cannot be combined with department.
     @GetMapping
     public ResponseEntity<?> getAllPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String sort,
             Authentication authentication) {
+        page = Math.max(page, 0);
+        size = clampSize(size);
         try {
-            List<PostResponse> posts = postService.getAllPosts(authentication.getName(), page, size);
+            if ("trending".equalsIgnoreCase(sort)) {
+                return ResponseEntity.ok(postService.getTrendingPosts(authentication.getName(), department, page, size));
+            }
+            if (cursor != null) {
+                PostFeedResponse feed = postService.getFeedPage(authentication.getName(), department, cursor, size);
+                return ResponseEntity.ok(feed);
+            }
+            List<PostResponse> posts = postService.getAllPosts(authentication.getName(), department, page, size);
             return ResponseEntity.ok(posts);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
             log.error("Error fetching posts: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -41,6 +63,39 @@ public class PostController {
         }
     }
 
+    // Posts carrying a hashtag, newest first, with cursor pagination
+    @GetMapping("/hashtags/{tag}")
+    public ResponseEntity<?> getPostsByHashtag(
+            @PathVariable String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication) {
+        try {
+            PostFeedResponse feed = postService.getPostsByHashtag(authentication.getName(), tag, cursor, clampSize(size));
+            return ResponseEntity.ok(feed);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error fetching posts for hashtag {}: {}", tag, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Failed to fetch posts: " + e.getMessage()));
+        }
+    }
+
+    // Trending hashtags by time-decayed usage
+    @GetMapping("/trending/hashtags")
+    public ResponseEntity<?> getTrendingHashtags(@RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<TrendingHashtag> trending = postService.getTrendingHashtags(Math.min(Math.max(limit, 1), 100));
+            return ResponseEntity.ok(trending);
+        } catch (Exception e) {
+            log.error("Error fetching trending hashtags: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Failed to fetch trending hashtags: " + e.getMessage()));
+        }
+    }
+
     // Get post by ID
     @GetMapping("/{id}")
     public ResponseEntity<?> getPostById(@PathVariable String id, Authentication authentication) {
@@ -196,4 +251,8 @@ public class PostController {
                     .body(new ErrorResponse("Failed to fetch your posts: " + e.getMessage()));
         }
     }
+
+    private int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
 }
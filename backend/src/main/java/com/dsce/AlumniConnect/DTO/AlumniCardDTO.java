@@ -0,0 +1,30 @@
+package com.dsce.AlumniConnect.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Directory card: what the alumni list shows. The full profile is only served by /alumni/{id}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlumniCardDTO {
+    private String id;
+    private String firstName;
+    private String lastName;
+    private String profilePicture;
+    private Integer graduationYear;
+    private String department;
+    private String location;
+    private String email;
+    private String linkedinProfile;
+    private String jobTitle; // Current (or most recent) position
+    private String company;
+    private List<String> skills; // First few skills only
+}
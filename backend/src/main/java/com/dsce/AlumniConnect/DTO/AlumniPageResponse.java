@@ -0,0 +1,17 @@
+package com.dsce.AlumniConnect.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlumniPageResponse {
+    private List<AlumniCardDTO> alumni;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -0,0 +1,15 @@
+package com.dsce.AlumniConnect.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentPageResponse {
+    private List<CommentResponse> comments;
+    private String nextCursor; // null when there are no more comments
+}
@@ -9,6 +9,8 @@ public class CommentResponse {
     
     private String id;
     private String postId;
+    private String parentId;
+    private Integer depth;
     private String authorId;
     private String authorName;
     private String authorAvatar;
@@ -0,0 +1,20 @@
+package com.dsce.AlumniConnect.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A root comment with the first replies of its subtree, oldest first.
+ * Replies at every depth are returned flat; parentId/depth let the client nest them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentThreadResponse {
+    private CommentResponse comment;
+    private List<CommentResponse> replies;
+    private String repliesCursor; // Pass to the replies endpoint to load more; null when all are shown
+}
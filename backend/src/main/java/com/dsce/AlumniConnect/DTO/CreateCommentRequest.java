@@ -9,6 +9,8 @@ public class CreateCommentRequest {
     
     @NotBlank(message = "Post ID is required")
     private String postId;
+
+    private String parentId; // Set when replying to a comment
     
     @NotBlank(message = "Comment content is required")
     @Size(max = 1000, message = "Comment content cannot exceed 1000 characters")
@@ -7,6 +7,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -32,7 +34,10 @@ public class EventDTO {
         this.featured = other.featured;
         this.imageUrl = other.imageUrl;
         this.likes = other.likes;
+        this.startAt = other.startAt;
+        this.endAt = other.endAt;
         this.views = other.views;
+        this.uniqueViewers = other.uniqueViewers;
         this.comments = other.comments;
     }
     
@@ -47,6 +52,8 @@ public class EventDTO {
     @NotBlank(message = "End time is required")
     private String endtime;
     private String time;
+    private LocalDateTime startAt; // ISO input is accepted in place of day/month
+    private LocalDateTime endAt;
     @NotBlank(message = "Event description is required")
     @Size(min = 10, max = 2000, message = "Description must be between 10 and 2000 characters")
     private String description;
@@ -70,5 +77,6 @@ public class EventDTO {
     // Engagement metrics
     private Integer likes = 0;
     private Integer views = 0;
+    private Long uniqueViewers = 0L;
     private Integer comments = 0;
 }
@@ -0,0 +1,18 @@
+package com.dsce.AlumniConnect.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+/**
+ * Result row of the per-post comment count aggregation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCommentCount {
+    @Id
+    private String postId;
+    private long count;
+}
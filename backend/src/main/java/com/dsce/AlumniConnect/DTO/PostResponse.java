@@ -25,6 +25,7 @@ public class PostResponse {
     private Integer likes;
     private Integer comments;
     private Integer shares;
+    private Long uniqueViewers;
     private List<String> media;
     private List<String> hashtags;
     private List<String> mentions;
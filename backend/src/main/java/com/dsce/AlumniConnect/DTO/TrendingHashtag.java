@@ -0,0 +1,16 @@
+package com.dsce.AlumniConnect.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hashtag with its time-decayed usage score (roughly "posts in the last day").
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingHashtag {
+    private String tag;
+    private double score;
+}
@@ -1,10 +1,13 @@
 package com.dsce.AlumniConnect.Repository;
 
+import com.dsce.AlumniConnect.DTO.PostCommentCount;
 import com.dsce.AlumniConnect.entity.Comment;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +19,11 @@ public interface CommentRepository extends MongoRepository<Comment, String> {
     
     @Query(value = "{ 'postId': ?0, 'isDeleted': false }", count = true)
     Long countByPostIdAndIsDeletedFalse(String postId);
+
+    // Comment counts for a whole page of posts in one round trip
+    @Aggregation(pipeline = {
+            "{ '$match': { 'postId': { '$in': ?0 }, 'isDeleted': false } }",
+            "{ '$group': { '_id': '$postId', 'count': { '$sum': 1 } } }"
+    })
+    List<PostCommentCount> countByPostIdIn(Collection<String> postIds);
 }
@@ -4,6 +4,7 @@ import com.dsce.AlumniConnect.entity.EventRSVP;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +14,13 @@ public interface EventRSVPRepository extends MongoRepository<EventRSVP, String>
     
     List<EventRSVP> findByUserId(String userId);
 
+    List<EventRSVP> findByUserIdAndEventIdIn(String userId, Collection<String> eventIds);
+
     Optional<EventRSVP> findByUserIdAndEventId(String userId, String eventId);
     
     long countByEventIdAndStatus(String eventId, EventRSVP.RsvpStatus status);
+
+    long countByUserIdAndStatus(String userId, EventRSVP.RsvpStatus status);
+
+    void deleteByEventId(String eventId);
 }
@@ -0,0 +1,14 @@
+package com.dsce.AlumniConnect.Repository;
+
+import com.dsce.AlumniConnect.entity.PostDeletionJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostDeletionJobRepository extends MongoRepository<PostDeletionJob, String> {
+
+    List<PostDeletionJob> findByStatusInOrderByCreatedAtDesc(Collection<PostDeletionJob.Status> statuses);
+}
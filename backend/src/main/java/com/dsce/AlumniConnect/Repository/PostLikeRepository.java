@@ -0,0 +1,19 @@
+package com.dsce.AlumniConnect.Repository;
+
+import com.dsce.AlumniConnect.entity.PostLike;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostLikeRepository extends MongoRepository<PostLike, String> {
+
+    // Only postId comes back, so the (postId, userId) index covers the whole query
+    @Query(value = "{ 'userId': ?0, 'postId': { '$in': ?1 } }", fields = "{ 'postId': 1, '_id': 0 }")
+    List<PostLike> findByUserIdAndPostIdIn(String userId, Collection<String> postIds);
+
+    long deleteByPostIdAndUserId(String postId, String userId);
+}
@@ -0,0 +1,406 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-process full-text search over alumni: name, skills, featured skills, job titles, companies,
+ * department and location.
+ *
+ * An inverted index maps each token to a posting list of int doc ids (ascending) with field-boosted term
+ * frequencies. Queries are AND within a clause and OR between clauses ("java spring OR golang"); AND
+ * intersects the posting lists starting from the shortest, and matches are ranked with BM25.
+ *
+ * Doc ids are only ever appended: re-indexing a user tombstones their old doc and adds a new one, so posting
+ * lists stay sorted without rewrites. The index is built when the application is ready, updated from profile
+ * writes, and rebuilt periodically, which drops tombstones and picks up writes made by other instances.
+ * Readers share a read lock; updates and the rebuild's swap take the write lock.
+ */
+@Slf4j
+@Service
+public class AlumniSearchService {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MAX_LIMIT = 100;
+    private static final Pattern TOKEN_SPLIT = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    private static final Pattern OR_SPLIT = Pattern.compile("\\s+OR\\s+|\\s*\\|\\s*");
+
+    // Field boosts; a token's term frequency is the sum of the boosts of the fields it occurs in
+    private static final float NAME_BOOST = 3f;
+    private static final float SKILL_BOOST = 2f;
+    private static final float POSITION_BOOST = 2f;
+    private static final float DEPARTMENT_BOOST = 1f;
+    private static final float LOCATION_BOOST = 1f;
+
+    private static final String[] INDEXED_FIELDS = {
+            "firstName", "lastName", "skills", "featuredSkills.skill",
+            "workExperiences.company", "workExperiences.jobTitle", "department", "location"
+    };
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready = false;
+    // Users written while a rebuild is reading Mongo, re-applied to the new index after the swap
+    private volatile Map<String, User> writesDuringRebuild = null;
+
+    public AlumniSearchService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.alumni-search.rebuild-interval-ms:1800000}",
+            initialDelayString = "${app.alumni-search.rebuild-interval-ms:1800000}")
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        writesDuringRebuild = new ConcurrentHashMap<>();
+        try {
+            InvertedIndex rebuilt = new InvertedIndex();
+            Query query = new Query(Criteria.where("role").ne(User.Role.ADMIN));
+            query.fields().include(INDEXED_FIELDS);
+            try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+                users.forEach(user -> rebuilt.add(user.getId(), tokenize(user)));
+            }
+
+            lock.writeLock().lock();
+            try {
+                index = rebuilt;
+                writesDuringRebuild.values().forEach(this::applyLocked);
+                writesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("Built alumni search index: {} alumni, {} terms in {} ms",
+                    rebuilt.liveDocs, rebuilt.postings.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            writesDuringRebuild = null;
+            log.error("Alumni search index build failed, keeping the current index. Error: {}", e.getMessage());
+        }
+    }
+
+    // Re-indexes one user after a profile write
+    public void index(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Map<String, User> pending = writesDuringRebuild;
+            if (pending != null) {
+                pending.put(user.getId(), user);
+            }
+            applyLocked(user);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * User ids matching the query, best first. Terms within a clause must all match; clauses separated
+     * by OR (or '|') are alternatives. A user scores the BM25 sum over a clause's terms, best clause counting.
+     */
+    public List<String> search(String queryText, int limit) {
+        List<List<String>> clauses = parseQuery(queryText);
+        if (clauses.isEmpty()) {
+            return List.of();
+        }
+        int k = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        lock.readLock().lock();
+        try {
+            return index.search(clauses, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyLocked(User user) {
+        if (user.getRole() == User.Role.ADMIN) {
+            index.remove(user.getId());
+        } else {
+            index.add(user.getId(), tokenize(user));
+        }
+    }
+
+    // Distinct clauses of distinct lower-cased tokens
+    private List<List<String>> parseQuery(String queryText) {
+        if (queryText == null || queryText.isBlank()) {
+            return List.of();
+        }
+        List<List<String>> clauses = new ArrayList<>();
+        for (String clause : OR_SPLIT.split(queryText.trim())) {
+            Set<String> terms = new LinkedHashSet<>();
+            for (String token : TOKEN_SPLIT.split(clause.toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty()) {
+                    terms.add(token);
+                }
+            }
+            if (!terms.isEmpty()) {
+                clauses.add(new ArrayList<>(terms));
+            }
+        }
+        return clauses;
+    }
+
+    private Map<String, Float> tokenize(User user) {
+        Map<String, Float> terms = new HashMap<>();
+        addTokens(terms, user.getFirstName(), NAME_BOOST);
+        addTokens(terms, user.getLastName(), NAME_BOOST);
+        if (user.getSkills() != null) {
+            user.getSkills().forEach(skill -> addTokens(terms, skill, SKILL_BOOST));
+        }
+        if (user.getFeaturedSkills() != null) {
+            user.getFeaturedSkills().forEach(skill -> addTokens(terms, skill.getSkill(), SKILL_BOOST));
+        }
+        if (user.getWorkExperiences() != null) {
+            for (User.WorkExperience experience : user.getWorkExperiences()) {
+                addTokens(terms, experience.getCompany(), POSITION_BOOST);
+                addTokens(terms, experience.getJobTitle(), POSITION_BOOST);
+            }
+        }
+        addTokens(terms, user.getDepartment(), DEPARTMENT_BOOST);
+        addTokens(terms, user.getLocation(), LOCATION_BOOST);
+        return terms;
+    }
+
+    private void addTokens(Map<String, Float> terms, String text, float boost) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String token : TOKEN_SPLIT.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                terms.merge(token, boost, Float::sum);
+            }
+        }
+    }
+
+    /**
+     * The index itself. Not thread-safe; guarded by the service's lock (or private to a rebuild).
+     */
+    private static final class InvertedIndex {
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<String, Integer> docByUserId = new HashMap<>();
+        private final BitSet live = new BitSet();
+        private String[] userIds = new String[1024];
+        private String[][] docTerms = new String[1024][];
+        private float[] docLengths = new float[1024];
+        private int nextDoc = 0;
+        private int liveDocs = 0;
+        private double totalLength = 0;
+
+        void add(String userId, Map<String, Float> terms) {
+            remove(userId);
+            if (terms.isEmpty()) {
+                return;
+            }
+
+            int doc = nextDoc++;
+            if (doc == userIds.length) {
+                int capacity = userIds.length * 2;
+                userIds = Arrays.copyOf(userIds, capacity);
+                docTerms = Arrays.copyOf(docTerms, capacity);
+                docLengths = Arrays.copyOf(docLengths, capacity);
+            }
+
+            float length = 0;
+            String[] termList = new String[terms.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> term : terms.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), t -> new Postings()).append(doc, term.getValue());
+                termList[i++] = term.getKey();
+                length += term.getValue();
+            }
+
+            userIds[doc] = userId;
+            docTerms[doc] = termList;
+            docLengths[doc] = length;
+            docByUserId.put(userId, doc);
+            live.set(doc);
+            liveDocs++;
+            totalLength += length;
+        }
+
+        // Tombstones the user's doc; its postings are skipped until the next rebuild drops them
+        void remove(String userId) {
+            Integer doc = docByUserId.remove(userId);
+            if (doc == null) {
+                return;
+            }
+            live.clear(doc);
+            liveDocs--;
+            totalLength -= docLengths[doc];
+            for (String term : docTerms[doc]) {
+                Postings list = postings.get(term);
+                if (list != null) {
+                    list.liveDocs--;
+                }
+            }
+            docTerms[doc] = null;
+        }
+
+        List<String> search(List<List<String>> clauses, int k) {
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            float averageLength = (float) (totalLength / liveDocs);
+
+            Matches matches = new Matches(nextDoc);
+            for (List<String> clause : clauses) {
+                Postings[] lists = new Postings[clause.size()];
+                float[] idfs = new float[clause.size()];
+                boolean missing = false;
+                for (int i = 0; i < clause.size(); i++) {
+                    lists[i] = postings.get(clause.get(i));
+                    if (lists[i] == null || lists[i].liveDocs <= 0) {
+                        missing = true;
+                        break;
+                    }
+                    idfs[i] = idf(lists[i].liveDocs);
+                }
+                if (!missing) {
+                    intersect(lists, idfs, averageLength, matches);
+                }
+            }
+            return topK(matches, k);
+        }
+
+        // Walks the shortest list and binary-searches the others from their last position
+        private void intersect(Postings[] lists, float[] idfs, float averageLength, Matches matches) {
+            int shortest = 0;
+            for (int i = 1; i < lists.length; i++) {
+                if (lists[i].size < lists[shortest].size) {
+                    shortest = i;
+                }
+            }
+            int[] positions = new int[lists.length];
+            Postings driver = lists[shortest];
+
+            candidates:
+            for (int p = 0; p < driver.size; p++) {
+                int doc = driver.docs[p];
+                if (!live.get(doc)) {
+                    continue;
+                }
+                float score = 0;
+                for (int i = 0; i < lists.length; i++) {
+                    Postings list = lists[i];
+                    int at = i == shortest ? p : Arrays.binarySearch(list.docs, positions[i], list.size, doc);
+                    if (at < 0) {
+                        positions[i] = -at - 1;
+                        if (positions[i] >= list.size) {
+                            return; // This list has nothing at or after doc, so no later doc can match
+                        }
+                        continue candidates;
+                    }
+                    positions[i] = at;
+                    score += bm25(idfs[i], list.tfs[at], docLengths[doc], averageLength);
+                }
+                matches.offer(doc, score);
+            }
+        }
+
+        private float idf(int documentFrequency) {
+            return (float) Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+
+        private float bm25(float idf, float tf, float length, float averageLength) {
+            return idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+        }
+
+        // Min-heap of the k best docs; only docs that beat the current k-th score are boxed
+        private List<String> topK(Matches matches, int k) {
+            float[] scores = matches.scores;
+            PriorityQueue<Integer> top = new PriorityQueue<>(k + 1, (a, b) -> Float.compare(scores[a], scores[b]));
+            for (int i = 0; i < matches.count; i++) {
+                int doc = matches.docs[i];
+                if (top.size() < k) {
+                    top.offer(doc);
+                } else if (scores[doc] > scores[top.peek()]) {
+                    top.poll();
+                    top.offer(doc);
+                }
+            }
+            List<String> ranked = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ranked.add(userIds[top.poll()]);
+            }
+            Collections.reverse(ranked);
+            return ranked;
+        }
+    }
+
+    // Best score per matched doc (highest clause wins) plus the list of docs that have one
+    private static final class Matches {
+        private final float[] scores;
+        private int[] docs = new int[64];
+        private int count = 0;
+
+        Matches(int maxDoc) {
+            scores = new float[maxDoc];
+        }
+
+        void offer(int doc, float score) {
+            if (scores[doc] == 0) {
+                if (count == docs.length) {
+                    docs = Arrays.copyOf(docs, count * 2);
+                }
+                docs[count++] = doc;
+            }
+            scores[doc] = Math.max(scores[doc], score);
+        }
+    }
+
+    // Growable parallel arrays of ascending doc ids and their boosted term frequencies
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private float[] tfs = new float[4];
+        private int size = 0;
+        private int liveDocs = 0;
+
+        void append(int doc, float tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            docs[size] = doc;
+            tfs[size] = tf;
+            size++;
+            liveDocs++;
+        }
+    }
+}
@@ -1,22 +1,95 @@
 package com.dsce.AlumniConnect.Service;
 
+import com.dsce.AlumniConnect.DTO.AlumniCardDTO;
+import com.dsce.AlumniConnect.DTO.AlumniPageResponse;
 import com.dsce.AlumniConnect.DTO.UserProfileDTO;
 import com.dsce.AlumniConnect.Repository.UserRepository;
 import com.dsce.AlumniConnect.entity.User;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class AlumniService {
+
+    // Case-insensitive matching; the directory indexes are built with the same collation
+    public static final Collation DIRECTORY_COLLATION = Collation.of("en").strength(Collation.ComparisonLevel.secondary());
+
+    private static final int CARD_SKILLS = 5;
+
     @Autowired
     private UserRepository userRepository;
 
-    @Cacheable(value = "allAlumni")
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * One page of directory cards, newest graduation year first, optionally filtered.
+     * Each filter combination is served by a (filter, graduationYear, _id) index, and only card fields are read.
+     */
+    public AlumniPageResponse getAlumniPage(String department, Integer graduationYear, String company, String skill,
+            int page, int size) {
+        Query query = new Query(Criteria.where("role").ne(User.Role.ADMIN));
+        if (department != null && !department.isBlank()) {
+            query.addCriteria(Criteria.where("department").is(department.trim()));
+        }
+        if (graduationYear != null) {
+            query.addCriteria(Criteria.where("graduationYear").is(graduationYear));
+        }
+        if (company != null && !company.isBlank()) {
+            query.addCriteria(Criteria.where("workExperiences.company").is(company.trim()));
+        }
+        if (skill != null && !skill.isBlank()) {
+            query.addCriteria(Criteria.where("skills").is(skill.trim()));
+        }
+
+        query.collation(DIRECTORY_COLLATION)
+                .with(Sort.by(Sort.Direction.DESC, "graduationYear").and(Sort.by(Sort.Direction.DESC, "id")))
+                .skip((long) page * size)
+                .limit(size + 1);
+        includeCardFields(query);
+
+        List<User> users = mongoTemplate.find(query, User.class);
+        boolean hasNext = users.size() > size;
+        if (hasNext) {
+            users = users.subList(0, size);
+        }
+        List<AlumniCardDTO> cards = users.stream().map(this::mapToCard).collect(Collectors.toList());
+        return new AlumniPageResponse(cards, page, size, hasNext);
+    }
+
+    // Cards for the given user ids in the order given (search rank); ids no longer found are skipped
+    public List<AlumniCardDTO> getCards(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Query query = new Query(Criteria.where("id").in(ids));
+        includeCardFields(query);
+        Map<String, User> usersById = mongoTemplate.find(query, User.class).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return ids.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToCard)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Full profiles of everyone, for the admin screens behind /api/admin/alumni. Not cached, since the single
+     * all-alumni value had to be rebuilt after every profile edit. The directory uses getAlumniPage.
+     */
     public List<UserProfileDTO> getAllAlumni() {
         return userRepository.findAll().stream()
                 .filter(user -> user.getRole() != User.Role.ADMIN )
@@ -29,6 +102,42 @@ public class AlumniService {
         return userRepository.findById(id).map(this::mapToDTO);
     }
     
+    private void includeCardFields(Query query) {
+        query.fields()
+                .include("firstName", "lastName", "profilePicture", "graduationYear", "department", "location",
+                        "email", "linkedinProfile", "workExperiences.company", "workExperiences.jobTitle", "workExperiences.currentlyWorking")
+                .slice("skills", CARD_SKILLS);
+    }
+
+    private AlumniCardDTO mapToCard(User user) {
+        User.WorkExperience position = currentPosition(user.getWorkExperiences());
+        return AlumniCardDTO.builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .profilePicture(user.getProfilePicture())
+                .graduationYear(user.getGraduationYear())
+                .department(user.getDepartment())
+                .location(user.getLocation())
+                .email(user.getEmail())
+                .linkedinProfile(user.getLinkedinProfile())
+                .jobTitle(position != null ? position.getJobTitle() : null)
+                .company(position != null ? position.getCompany() : null)
+                .skills(user.getSkills())
+                .build();
+    }
+
+    // The position marked current, otherwise the first one listed
+    private User.WorkExperience currentPosition(List<User.WorkExperience> experiences) {
+        if (experiences == null || experiences.isEmpty()) {
+            return null;
+        }
+        return experiences.stream()
+                .filter(experience -> Boolean.TRUE.equals(experience.getCurrentlyWorking()))
+                .findFirst()
+                .orElse(experiences.get(0));
+    }
+
     private UserProfileDTO mapToDTO(User user) {
         return UserProfileDTO.builder()
                 .id(user.getId())
@@ -39,6 +39,7 @@ public class AuthService {
     private final JwtUtils jwtUtils;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final AlumniSearchService alumniSearchService;
     private final RestTemplate restTemplate = new RestTemplate();
 
     @Value("${resend.api.key:}")
@@ -211,6 +212,7 @@ public class AuthService {
         user.setVerificationStatus(User.VerificationStatus.PENDING);
 
         userRepository.save(user);
+        alumniSearchService.index(user);
 
         String token = jwtUtils.generateToken(user.getEmail());
 
@@ -252,6 +254,7 @@ public class AuthService {
                 user.setProfileComplete(false);
                 user.setVerificationStatus(User.VerificationStatus.PENDING);
                 userRepository.save(user);
+                alumniSearchService.index(user);
             }
 
             String token = jwtUtils.generateToken(user.getEmail());
@@ -0,0 +1,143 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.Repository.UserRepository;
+import com.dsce.AlumniConnect.entity.Comment;
+import com.dsce.AlumniConnect.entity.DiscussionPost;
+import com.dsce.AlumniConnect.entity.DiscussionTopic;
+import com.dsce.AlumniConnect.entity.Post;
+import com.dsce.AlumniConnect.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Copies a user's current name and avatar into the authorName/authorAvatar fields denormalized on
+ * posts, comments, discussion topics and discussion posts.
+ *
+ * Profile edits only mark the user as pending; several edits before the next run coalesce into one refresh
+ * that reads the latest profile. Each collection is updated in batches of BATCH_SIZE documents with
+ * updateMulti on (authorId, _id in batch). To stay under docs-per-second without sleeping on the shared
+ * scheduler, a run stops after the batches its interval allows and leaves the rest of that user pending.
+ * Only documents whose copy differs are selected, so a refresh is idempotent and the next run resumes it.
+ */
+@Slf4j
+@Service
+public class AuthorProfileSyncService {
+
+    private static final int BATCH_SIZE = 200;
+    private static final List<Class<?>> AUTHORED_TYPES =
+            List.of(Post.class, Comment.class, DiscussionTopic.class, DiscussionPost.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final UserRepository userRepository;
+    private final long batchesPerRun;
+
+    private final Set<String> pendingUserIds = ConcurrentHashMap.newKeySet();
+
+    public AuthorProfileSyncService(MongoTemplate mongoTemplate,
+            UserRepository userRepository,
+            @Value("${app.author-sync.docs-per-second:1000}") int docsPerSecond,
+            @Value("${app.author-sync.interval-ms:10000}") long intervalMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.userRepository = userRepository;
+        this.batchesPerRun = Math.max(1, (long) docsPerSecond * intervalMillis / 1000 / BATCH_SIZE);
+    }
+
+    public void scheduleRefresh(String userId) {
+        if (userId != null) {
+            pendingUserIds.add(userId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.author-sync.interval-ms:10000}")
+    public void refreshPendingAuthors() {
+        Budget budget = new Budget(batchesPerRun);
+        List<String> userIds = new ArrayList<>(pendingUserIds);
+        for (String userId : userIds) {
+            if (budget.batchesLeft <= 0) {
+                return; // Still pending, picked up by the next run
+            }
+            pendingUserIds.remove(userId); // An edit arriving from here on queues another (cheap) pass
+            try {
+                User user = userRepository.findById(userId).orElse(null);
+                if (user != null && !refresh(user, budget)) {
+                    pendingUserIds.add(userId);
+                }
+            } catch (Exception e) {
+                log.warn("Author refresh for user {} failed, will retry. Error: {}", userId, e.getMessage());
+                pendingUserIds.add(userId);
+            }
+        }
+    }
+
+    // False if the budget ran out before every copy was refreshed
+    private boolean refresh(User user, Budget budget) {
+        String name = user.getFirstName() + " " + user.getLastName();
+        String avatar = user.getProfilePicture();
+
+        long before = budget.updated;
+        boolean complete = true;
+        for (Class<?> type : AUTHORED_TYPES) {
+            if (!refresh(type, user.getId(), name, avatar, budget)) {
+                complete = false;
+                break;
+            }
+        }
+        long total = budget.updated - before;
+        if (total > 0) {
+            log.info("Refreshed author name/avatar on {} documents for user {}{}", total, user.getId(),
+                    complete ? "" : ", continuing next run");
+        }
+        return complete;
+    }
+
+    // True once no stale copies are left in the collection
+    private boolean refresh(Class<?> type, String authorId, String name, String avatar, Budget budget) {
+        String collection = mongoTemplate.getCollectionName(type);
+        Criteria stale = Criteria.where("authorId").is(authorId)
+                .orOperator(Criteria.where("authorName").ne(name), Criteria.where("authorAvatar").ne(avatar));
+
+        while (budget.batchesLeft > 0) {
+            Query batch = new Query(stale).limit(BATCH_SIZE);
+            batch.fields().include("_id");
+            List<Object> ids = mongoTemplate.find(batch, Document.class, collection).stream()
+                    .map(document -> document.get("_id"))
+                    .collect(Collectors.toList());
+            if (ids.isEmpty()) {
+                return true;
+            }
+
+            budget.batchesLeft--;
+            Query query = new Query(Criteria.where("authorId").is(authorId).and("_id").in(ids));
+            budget.updated += mongoTemplate.updateMulti(query,
+                    new Update().set("authorName", name).set("authorAvatar", avatar), collection)
+                    .getModifiedCount();
+            if (ids.size() < BATCH_SIZE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Batches one run may still write, and documents it has updated so far
+    private static class Budget {
+        private long batchesLeft;
+        private long updated;
+
+        private Budget(long batches) {
+            this.batchesLeft = batches;
+        }
+    }
+}
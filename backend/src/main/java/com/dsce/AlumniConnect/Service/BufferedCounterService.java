@@ -0,0 +1,177 @@
+package com.dsce.AlumniConnect.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind counters for hot, loss-tolerant fields (shares, views).
+ * Increments land in striped LongAdders; every few seconds the buffer is swapped out and written to Mongo
+ * as one unordered bulk of $inc updates per collection. Readers add pending() to the stored value
+ * so users see their own increment before it is flushed.
+ *
+ * Writers hold the read lock only to reach the current buffer, so they never block each other;
+ * the flush takes the write lock just long enough to swap the map.
+ * Flush listeners get the ids written for their entity, e.g. to evict exactly those cache entries.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BufferedCounterService {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Map<CounterKey, LongAdder> buffer = new ConcurrentHashMap<>();
+    private volatile Map<CounterKey, LongAdder> flushing = Map.of(); // Swapped out, not yet written
+    private final Map<Class<?>, List<Consumer<Set<String>>>> flushListeners = new ConcurrentHashMap<>();
+
+    public void increment(Class<?> entityClass, String id, String field) {
+        add(new CounterKey(entityClass, id, field), 1);
+    }
+
+    // Increments of one document field that are not in Mongo yet
+    public long pending(Class<?> entityClass, String id, String field) {
+        CounterKey key = new CounterKey(entityClass, id, field);
+        return sumOf(buffer.get(key)) + sumOf(flushing.get(key));
+    }
+
+    public Map<String, Long> pending(Class<?> entityClass, Collection<String> ids, String field) {
+        Map<String, Long> pending = new HashMap<>();
+        for (String id : ids) {
+            long delta = pending(entityClass, id, field);
+            if (delta != 0) {
+                pending.put(id, delta);
+            }
+        }
+        return pending;
+    }
+
+    public void addFlushListener(Class<?> entityClass, Consumer<Set<String>> listener) {
+        flushListeners.computeIfAbsent(entityClass, c -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${app.counters.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        swapLock.writeLock().lock();
+        try {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            flushing = buffer;
+            buffer = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        try {
+            write(flushing);
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(CounterKey key, long delta) {
+        swapLock.readLock().lock();
+        try {
+            buffer.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // One $inc per document (all of its fields together), one bulk per collection
+    private void write(Map<CounterKey, LongAdder> counters) {
+        Map<Class<?>, Map<String, Update>> updates = new HashMap<>();
+        counters.forEach((key, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                updates.computeIfAbsent(key.getEntityClass(), c -> new HashMap<>())
+                        .computeIfAbsent(key.getId(), id -> new Update())
+                        .inc(key.getField(), delta);
+            }
+        });
+
+        updates.forEach((entityClass, byId) -> {
+            List<String> ids = new ArrayList<>(byId.keySet()); // Bulk index i is ids.get(i)
+            try {
+                BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass);
+                ids.forEach(id -> bulk.updateOne(new Query(Criteria.where("id").is(id)), byId.get(id)));
+                bulk.execute();
+                log.debug("Flushed {} buffered counter updates to {}", ids.size(), entityClass.getSimpleName());
+                notifyListeners(entityClass, byId.keySet());
+            } catch (BulkOperationException e) {
+                // An unordered bulk applies every update it can: requeue only the ones that failed
+                Set<String> failed = new HashSet<>();
+                e.getErrors().forEach(error -> failed.add(ids.get(error.getIndex())));
+                log.warn("Counter flush to {} failed for {} of {} documents, will retry them. Error: {}",
+                        entityClass.getSimpleName(), failed.size(), ids.size(), e.getMessage());
+                requeue(counters, entityClass, failed);
+                Set<String> written = new HashSet<>(byId.keySet());
+                written.removeAll(failed);
+                notifyListeners(entityClass, written);
+            } catch (Exception e) {
+                // No per-update result (e.g. no connection), so nothing is known to be written: keep them all
+                log.warn("Counter flush to {} failed, will retry. Error: {}", entityClass.getSimpleName(), e.getMessage());
+                requeue(counters, entityClass, byId.keySet());
+            }
+        });
+    }
+
+    private void requeue(Map<CounterKey, LongAdder> counters, Class<?> entityClass, Set<String> ids) {
+        counters.forEach((key, adder) -> {
+            if (key.getEntityClass() == entityClass && ids.contains(key.getId())) {
+                add(key, adder.sum());
+            }
+        });
+    }
+
+    private void notifyListeners(Class<?> entityClass, Set<String> ids) {
+        for (Consumer<Set<String>> listener : flushListeners.getOrDefault(entityClass, List.of())) {
+            try {
+                listener.accept(ids);
+            } catch (Exception e) {
+                log.warn("Counter flush listener for {} failed. Error: {}", entityClass.getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private long sumOf(LongAdder adder) {
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Value
+    private static class CounterKey {
+        Class<?> entityClass;
+        String id;
+        String field;
+    }
+}
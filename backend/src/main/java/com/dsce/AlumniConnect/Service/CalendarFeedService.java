@@ -0,0 +1,291 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.entity.Event;
+import com.dsce.AlumniConnect.entity.EventRSVP;
+import com.dsce.AlumniConnect.entity.EventRSVP.RsvpStatus;
+import com.dsce.AlumniConnect.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * iCalendar (RFC 5545) feeds: a per-user feed of the events they RSVP'd to, and a public featured-events feed.
+ *
+ * Calendar clients cannot send a JWT, so the user feed is addressed by a token of userId and the user's
+ * calendarTokenVersion plus an HMAC of both, keyed by a secret of its own. Rotating bumps the version, which
+ * revokes every earlier token of that user.
+ * Events are streamed from a Mongo cursor straight into the response, one VEVENT at a time.
+ *
+ * Clients poll every few minutes, so each feed has an ETag built from version counters in Redis: one bumped
+ * on any event change, one per user bumped on that user's RSVP changes, plus the day, since the feeds' window
+ * moves daily. A matching If-None-Match is answered without reading any events. Counters start at the current time, so a Redis restart never reproduces an old ETag;
+ * while Redis is unavailable no ETag is sent and every poll gets a fresh feed.
+ */
+@Slf4j
+@Service
+public class CalendarFeedService {
+
+    private static final String EVENTS_VERSION_KEY = "calendar:version:events";
+    private static final String USER_VERSION_PREFIX = "calendar:version:user:";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int HISTORY_DAYS = 90;
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final DateTimeFormatter ICS_UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final List<RsvpStatus> FEED_STATUSES = List.of(RsvpStatus.GOING, RsvpStatus.MAYBE);
+
+    private final MongoTemplate mongoTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SecretKeySpec tokenKey;
+
+    public CalendarFeedService(MongoTemplate mongoTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${app.calendar.token-secret}") String tokenSecret,
+            @Value("${jwt.secret}") String jwtSecret) {
+        if (tokenSecret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.calendar.token-secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        if (tokenSecret.equals(jwtSecret)) {
+            throw new IllegalStateException("app.calendar.token-secret must differ from jwt.secret");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.tokenKey = new SecretKeySpec(tokenSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    public String calendarToken(String userId) {
+        return token(userId, tokenVersion(userId));
+    }
+
+    // Revokes the user's earlier tokens and returns a new one
+    public String rotateToken(String userId) {
+        User user = mongoTemplate.findAndModify(new Query(Criteria.where("id").is(userId)),
+                new Update().inc("calendarTokenVersion", 1), FindAndModifyOptions.options().returnNew(true), User.class);
+        if (user == null) {
+            throw new RuntimeException("User not found");
+        }
+        return token(userId, user.getCalendarTokenVersion());
+    }
+
+    // User id the token was issued for, or null if it was not issued by us or has been rotated out
+    public String userIdForToken(String token) {
+        if (token == null) {
+            return null;
+        }
+        int separator = token.lastIndexOf('.');
+        int versionSeparator = separator > 0 ? token.lastIndexOf('.', separator - 1) : -1;
+        if (versionSeparator <= 0) {
+            return null;
+        }
+        String payload = token.substring(0, separator);
+        byte[] expected = sign(payload).getBytes(StandardCharsets.UTF_8);
+        byte[] actual = token.substring(separator + 1).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+        String userId = token.substring(0, versionSeparator);
+        String version = token.substring(versionSeparator + 1, separator);
+        return version.equals(String.valueOf(tokenVersion(userId))) ? userId : null;
+    }
+
+    private String token(String userId, Integer version) {
+        String payload = userId + "." + (version != null ? version : 0);
+        return payload + "." + sign(payload);
+    }
+
+    private int tokenVersion(String userId) {
+        Query query = new Query(Criteria.where("id").is(userId));
+        query.fields().include("calendarTokenVersion");
+        User user = mongoTemplate.findOne(query, User.class);
+        return user != null && user.getCalendarTokenVersion() != null ? user.getCalendarTokenVersion() : 0;
+    }
+
+    // Any event was created, changed or deleted
+    public void eventsChanged() {
+        bump(EVENTS_VERSION_KEY);
+    }
+
+    public void rsvpsChanged(String userId) {
+        bump(USER_VERSION_PREFIX + userId);
+    }
+
+    /**
+     * ETag of the user's feed (or of the featured feed when userId is null), or null while Redis is unavailable.
+     */
+    public String etag(String userId) {
+        try {
+            String events = version(EVENTS_VERSION_KEY) + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+            return userId == null
+                    ? "\"f-" + events + "\""
+                    : "\"u-" + events + "-" + version(USER_VERSION_PREFIX + userId) + "\"";
+        } catch (Exception e) {
+            log.warn("Calendar version read failed, serving feed without ETag. Error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void writeUserFeed(String userId, OutputStream out) throws IOException {
+        Query rsvps = new Query(Criteria.where("userId").is(userId).and("status").in(FEED_STATUSES));
+        rsvps.fields().include("eventId", "status");
+        Map<String, RsvpStatus> statusByEvent = new HashMap<>();
+        for (EventRSVP rsvp : mongoTemplate.find(rsvps, EventRSVP.class)) {
+            statusByEvent.put(rsvp.getEventId(), rsvp.getStatus());
+        }
+
+        Query events = new Query(Criteria.where("id").in(statusByEvent.keySet())
+                .and("startAt").gte(LocalDateTime.now().minusDays(HISTORY_DAYS)));
+        writeFeed("My DSCE Alumni Events", events, statusByEvent, out);
+    }
+
+    // Served by featured_startAt_idx
+    public void writeFeaturedFeed(OutputStream out) throws IOException {
+        Query events = new Query(Criteria.where("featured").is(true)
+                .and("startAt").gte(LocalDateTime.now().minusDays(HISTORY_DAYS)))
+                .with(Sort.by(Sort.Direction.ASC, "startAt"));
+        writeFeed("DSCE Alumni Featured Events", events, Map.of(), out);
+    }
+
+    private void writeFeed(String name, Query query, Map<String, RsvpStatus> statusByEvent, OutputStream out)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        String stamp = toUtc(LocalDateTime.now());
+
+        line(writer, "BEGIN:VCALENDAR");
+        line(writer, "VERSION:2.0");
+        line(writer, "PRODID:-//DSCE Alumni Connect//Events//EN");
+        line(writer, "CALSCALE:GREGORIAN");
+        line(writer, "METHOD:PUBLISH");
+        line(writer, "X-WR-CALNAME:" + escape(name));
+
+        int count = 0;
+        try (Stream<Event> events = mongoTemplate.stream(query, Event.class)) {
+            for (Event event : (Iterable<Event>) events::iterator) {
+                if (event.getStartAt() == null) {
+                    continue;
+                }
+                writeEvent(writer, event, statusByEvent.get(event.getId()), stamp);
+                count++;
+            }
+        }
+
+        line(writer, "END:VCALENDAR");
+        writer.flush();
+        log.debug("Wrote calendar feed '{}' with {} events", name, count);
+    }
+
+    private void writeEvent(Writer writer, Event event, RsvpStatus status, String stamp) throws IOException {
+        line(writer, "BEGIN:VEVENT");
+        line(writer, "UID:" + event.getId() + "@dsce-alumni-connect");
+        line(writer, "DTSTAMP:" + stamp);
+        line(writer, "DTSTART:" + toUtc(event.getStartAt()));
+        if (event.getEndAt() != null) {
+            line(writer, "DTEND:" + toUtc(event.getEndAt()));
+        }
+        line(writer, "SUMMARY:" + escape(event.getTitle()));
+        if (event.getDescription() != null) {
+            line(writer, "DESCRIPTION:" + escape(event.getDescription()));
+        }
+        if (event.getLocation() != null) {
+            line(writer, "LOCATION:" + escape(event.getLocation()));
+        }
+        if (event.getVirtualLink() != null && !event.getVirtualLink().isBlank()) {
+            line(writer, "URL:" + event.getVirtualLink().trim());
+        }
+        if (event.getCategory() != null) {
+            line(writer, "CATEGORIES:" + escape(event.getCategory()));
+        }
+        line(writer, "STATUS:" + (status == RsvpStatus.MAYBE ? "TENTATIVE" : "CONFIRMED"));
+        line(writer, "END:VEVENT");
+    }
+
+    // Content lines end in CRLF and are folded at 75 octets, continuation lines starting with a space
+    private void line(Writer writer, String content) throws IOException {
+        int octets = 0;
+        int limit = 75;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + size > limit) {
+                writer.write("\r\n ");
+                octets = 0;
+                limit = 74; // The leading space counts
+            }
+            writer.write(Character.toChars(codePoint));
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        writer.write("\r\n");
+    }
+
+    private String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+
+    private String toUtc(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).format(ICS_UTC);
+    }
+
+    private String version(String key) {
+        String version = stringRedisTemplate.opsForValue().get(key);
+        if (version != null) {
+            return version;
+        }
+        stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+        return stringRedisTemplate.opsForValue().get(key);
+    }
+
+    private void bump(String key) {
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+            stringRedisTemplate.opsForValue().increment(key);
+        } catch (Exception e) {
+            log.warn("Calendar version bump failed for {}. Error: {}", key, e.getMessage());
+        }
+    }
+
+    private String sign(String value) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(tokenKey);
+            byte[] signature = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Calendar token signing failed", e);
+        }
+    }
+}
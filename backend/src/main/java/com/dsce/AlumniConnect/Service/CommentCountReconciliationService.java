@@ -0,0 +1,85 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.DTO.PostCommentCount;
+import com.dsce.AlumniConnect.Repository.CommentRepository;
+import com.dsce.AlumniConnect.entity.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Repairs drift in Post.comments, which comment create/delete maintain with $inc
+ * (a crash between saving a comment and the $inc, or legacy read-modify-save counts).
+ * Walks all posts in _id order, BATCH_SIZE at a time, recounts their visible comments with one
+ * aggregation per batch and fixes mismatches in one bulk. Each fix is conditional on the counter
+ * still holding the value that was read, so it never overwrites a concurrent $inc.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentCountReconciliationService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final CommentRepository commentRepository;
+
+    @Scheduled(initialDelayString = "${app.comment-count.initial-delay-ms:300000}",
+            fixedDelayString = "${app.comment-count.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        String lastId = null;
+        long checked = 0;
+        long repaired = 0;
+
+        while (true) {
+            Query query = new Query().with(Sort.by(Sort.Direction.ASC, "id")).limit(BATCH_SIZE);
+            if (lastId != null) {
+                query.addCriteria(Criteria.where("id").gt(lastId));
+            }
+            query.fields().include("id", "comments");
+            List<Post> posts = mongoTemplate.find(query, Post.class);
+            if (posts.isEmpty()) {
+                break;
+            }
+
+            List<String> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+            Map<String, Long> counts = commentRepository.countByPostIdIn(postIds).stream()
+                    .collect(Collectors.toMap(PostCommentCount::getPostId, PostCommentCount::getCount));
+
+            BulkOperations bulk = null;
+            for (Post post : posts) {
+                int actual = counts.getOrDefault(post.getId(), 0L).intValue();
+                if (post.getComments() == null || post.getComments() != actual) {
+                    if (bulk == null) {
+                        bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Post.class);
+                    }
+                    bulk.updateOne(new Query(Criteria.where("id").is(post.getId()).and("comments").is(post.getComments())),
+                            new Update().set("comments", actual));
+                }
+            }
+            if (bulk != null) {
+                repaired += bulk.execute().getModifiedCount();
+            }
+
+            checked += posts.size();
+            lastId = posts.get(posts.size() - 1).getId();
+        }
+
+        if (repaired > 0) {
+            log.info("Comment count reconciliation checked {} posts and repaired {}", checked, repaired);
+        } else {
+            log.debug("Comment count reconciliation checked {} posts, no drift", checked);
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package com.dsce.AlumniConnect.Service;
 
+import com.dsce.AlumniConnect.DTO.CommentPageResponse;
 import com.dsce.AlumniConnect.DTO.CommentResponse;
+import com.dsce.AlumniConnect.DTO.CommentThreadPageResponse;
+import com.dsce.AlumniConnect.DTO.CommentThreadResponse;
 import com.dsce.AlumniConnect.DTO.CreateCommentRequest;
 import com.dsce.AlumniConnect.entity.Comment;
 import com.dsce.AlumniConnect.entity.Post;
 import com.dsce.AlumniConnect.entity.User;
 import com.dsce.AlumniConnect.Repository.CommentRepository;
-import com.dsce.AlumniConnect.Repository.PostRepository;
-import com.dsce.AlumniConnect.Repository.UserRepository;
+import com.dsce.AlumniConnect.util.PageCursor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,17 +38,16 @@ public class CommentService {
     private CommentRepository commentRepository;
 
     @Autowired
-    private PostRepository postRepository;
+    private CurrentUserService currentUserService;
 
     @Autowired
-    private UserRepository userRepository;
+    private TrendingService trendingService;
 
-    public CommentResponse createComment(CreateCommentRequest request, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    @Autowired
+    private MongoTemplate mongoTemplate;
 
-        Post post = postRepository.findById(request.getPostId())
-                .orElseThrow(() -> new RuntimeException("Post not found"));
+    public CommentResponse createComment(CreateCommentRequest request, String userEmail) {
+        User user = getUserByEmail(userEmail);
 
         Comment comment = new Comment();
         comment.setPostId(request.getPostId());
@@ -48,28 +61,140 @@ public class CommentService {
         comment.setLikedBy(new java.util.ArrayList<>());
         comment.setIsDeleted(false);
 
-        Comment savedComment = commentRepository.save(comment);
+        List<String> ancestors = new ArrayList<>();
+        if (request.getParentId() != null) {
+            Comment parent = commentRepository.findById(request.getParentId())
+                    .orElseThrow(() -> new RuntimeException("Parent comment not found"));
+            if (!parent.getPostId().equals(request.getPostId())) {
+                throw new RuntimeException("Parent comment belongs to another post");
+            }
+            if (parent.getAncestors() != null) {
+                ancestors.addAll(parent.getAncestors());
+            }
+            ancestors.add(parent.getId());
+            comment.setParentId(parent.getId());
+        }
+        comment.setAncestors(ancestors);
+        comment.setDepth(ancestors.size());
 
-        // Update post comment count
-        post.setComments(post.getComments() + 1);
-        postRepository.save(post);
+        // Count first: the $inc only matches an existing post, so a comment is never stored against a missing one
+        Post post = incrementCommentCount(request.getPostId(), 1);
+        if (post == null) {
+            throw new RuntimeException("Post not found");
+        }
+        Comment savedComment;
+        try {
+            savedComment = commentRepository.save(comment);
+        } catch (RuntimeException e) {
+            incrementCommentCount(request.getPostId(), -1);
+            throw e;
+        }
+        trendingService.recordEngagement(post, TrendingService.COMMENT_POINTS);
 
         log.info("Created comment by user: {} on post: {}", userEmail, request.getPostId());
         
-        return convertToCommentResponse(savedComment, userEmail);
+        return convertToCommentResponse(savedComment, user);
     }
 
     public List<CommentResponse> getCommentsByPostId(String postId, String userEmail) {
+        User currentUser = getUserByEmail(userEmail);
         List<Comment> comments = commentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(postId);
         
         return comments.stream()
-                .map(comment -> convertToCommentResponse(comment, userEmail))
+                .map(comment -> convertToCommentResponse(comment, currentUser))
+                .collect(Collectors.toList());
+    }
+
+    // Oldest first, keyset-paged on the (postId, isDeleted, createdAt, _id) index
+    public CommentPageResponse getCommentPage(String postId, String userEmail, String cursor, int size) {
+        Query query = new Query(Criteria.where("postId").is(postId).and("isDeleted").is(false));
+        return commentPage(query, getUserByEmail(userEmail), cursor, size);
+    }
+
+    // Every reply below a comment at any depth, oldest first ("load more replies")
+    public CommentPageResponse getReplies(String commentId, String userEmail, String cursor, int size) {
+        Query query = new Query(Criteria.where("ancestors").is(commentId).and("isDeleted").is(false));
+        return commentPage(query, getUserByEmail(userEmail), cursor, size);
+    }
+
+    /**
+     * One page of root comments, each with the first replies of its subtree.
+     * A single aggregation: the roots page, then a $lookup on the multikey ancestors index limited to
+     * replies + 1 per root, so the query count does not depend on thread size or depth.
+     */
+    public CommentThreadPageResponse getCommentThreads(String postId, String userEmail, String cursor,
+            int size, int replies) {
+        PageCursor after = PageCursor.decode(cursor);
+        User currentUser = getUserByEmail(userEmail);
+
+        Criteria roots = Criteria.where("postId").is(postId).and("parentId").is(null).and("isDeleted").is(false);
+        if (after != null) {
+            roots = new Criteria().andOperator(roots, after.after(Sort.Direction.ASC));
+        }
+        TypedAggregation<Comment> aggregation = Aggregation.newAggregation(Comment.class,
+                Aggregation.match(roots),
+                Aggregation.sort(PageCursor.sort(Sort.Direction.ASC)),
+                Aggregation.limit(size + 1),
+                // ancestors holds string ids
+                Aggregation.addFields().addField("threadId")
+                        .withValue(ConvertOperators.valueOf("_id").convertToString()).build(),
+                Aggregation.lookup().from("comments").localField("threadId").foreignField("ancestors")
+                        .pipeline(
+                                Aggregation.match(Criteria.where("isDeleted").is(false)),
+                                Aggregation.sort(Sort.by(Sort.Direction.ASC, "createdAt", "_id")),
+                                Aggregation.limit(replies + 1))
+                        .as("replies"));
+        List<CommentThread> rows = new ArrayList<>(mongoTemplate.aggregate(aggregation, CommentThread.class)
+                .getMappedResults());
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            CommentThread last = rows.get(size - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<CommentThreadResponse> threads = new ArrayList<>(rows.size());
+        for (CommentThread row : rows) {
+            List<Comment> shown = row.getReplies() != null ? row.getReplies() : new ArrayList<>();
+            String repliesCursor = null;
+            if (shown.size() > replies) {
+                shown = shown.subList(0, replies);
+                Comment last = shown.get(replies - 1);
+                repliesCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+            }
+            threads.add(new CommentThreadResponse(
+                    convertToCommentResponse(row, currentUser),
+                    shown.stream().map(reply -> convertToCommentResponse(reply, currentUser)).collect(Collectors.toList()),
+                    repliesCursor));
+        }
+        return new CommentThreadPageResponse(threads, nextCursor);
+    }
+
+    private CommentPageResponse commentPage(Query query, User currentUser, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+
+        query.with(PageCursor.sort(Sort.Direction.ASC)).limit(size + 1);
+        if (after != null) {
+            query.addCriteria(after.after(Sort.Direction.ASC));
+        }
+        List<Comment> comments = mongoTemplate.find(query, Comment.class);
+
+        String nextCursor = null;
+        if (comments.size() > size) {
+            comments = comments.subList(0, size);
+            Comment last = comments.get(size - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<CommentResponse> responses = comments.stream()
+                .map(comment -> convertToCommentResponse(comment, currentUser))
                 .collect(Collectors.toList());
+        return new CommentPageResponse(responses, nextCursor);
     }
 
     public void deleteComment(String commentId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = getUserByEmail(userEmail);
 
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("Comment not found"));
@@ -79,23 +204,37 @@ public class CommentService {
             throw new RuntimeException("You can only delete your own comments");
         }
 
-        comment.setIsDeleted(true);
-        commentRepository.save(comment);
+        // Only the request that actually flips isDeleted decrements the count
+        Query notDeleted = new Query(Criteria.where("id").is(commentId).and("isDeleted").is(false));
+        if (mongoTemplate.updateFirst(notDeleted, new Update().set("isDeleted", true), Comment.class)
+                .getModifiedCount() == 0) {
+            log.info("Comment {} was already deleted", commentId);
+            return;
+        }
 
         // Update post comment count
-        Post post = postRepository.findById(comment.getPostId())
-                .orElseThrow(() -> new RuntimeException("Post not found"));
-        
-        post.setComments(Math.max(0, post.getComments() - 1));
-        postRepository.save(post);
+        Post post = incrementCommentCount(comment.getPostId(), -1);
+        if (post != null) {
+            trendingService.recordEngagement(post, -TrendingService.COMMENT_POINTS);
+        }
 
         log.info("Deleted comment: {} by user: {}", commentId, userEmail);
     }
 
-    private CommentResponse convertToCommentResponse(Comment comment, String currentUserEmail) {
+    // Atomic $inc of Post.comments; returns the post's id, createdAt and new count, or null if it is gone
+    private Post incrementCommentCount(String postId, int delta) {
+        Query query = new Query(Criteria.where("id").is(postId));
+        query.fields().include("id", "createdAt", "comments");
+        return mongoTemplate.findAndModify(query, new Update().inc("comments", delta),
+                FindAndModifyOptions.options().returnNew(true), Post.class);
+    }
+
+    private CommentResponse convertToCommentResponse(Comment comment, User currentUser) {
         CommentResponse response = new CommentResponse();
         response.setId(comment.getId());
         response.setPostId(comment.getPostId());
+        response.setParentId(comment.getParentId());
+        response.setDepth(comment.getDepth() != null ? comment.getDepth() : 0);
         response.setAuthorId(comment.getAuthorId());
         response.setAuthorName(comment.getAuthorName());
         response.setAuthorAvatar(comment.getAuthorAvatar());
@@ -106,7 +245,6 @@ public class CommentService {
         response.setIsDeleted(comment.getIsDeleted());
         
         // Check if current user liked this comment
-        User currentUser = getUserByEmail(currentUserEmail);
         boolean isLiked = comment.getLikedBy() != null && comment.getLikedBy().contains(currentUser.getId());
         response.setIsLiked(isLiked);
         
@@ -117,12 +255,18 @@ public class CommentService {
     }
 
     private User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        return currentUserService.getUserByEmail(email);
     }
 
     private String getUserRole(User user) {
         // You can implement role logic based on user profile or other criteria
         return user.getRole() != null ? String.valueOf(user.getRole()) : "USER";
     }
+
+    // Aggregation row of getCommentThreads: a root comment plus its looked-up replies
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    static class CommentThread extends Comment {
+        private List<Comment> replies;
+    }
 }
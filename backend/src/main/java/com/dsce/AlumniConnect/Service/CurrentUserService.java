@@ -0,0 +1,95 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.Repository.UserRepository;
+import com.dsce.AlumniConnect.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves users by email at most once per HTTP request.
+ * The first lookup (normally JwtFilter -> UserDetailsServiceImpl) stores the User in a request attribute
+ * and every later service or controller call in the same request reuses it.
+ * Outside a request (async tasks, schedulers) it simply queries the repository.
+ *
+ * Hits and misses are exported as the user.lookups metric (tag result=hit|miss); hits are the
+ * findByEmail queries saved.
+ */
+@Slf4j
+@Service
+public class CurrentUserService {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentUserService.class.getName() + ".users";
+
+    private final UserRepository userRepository;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CurrentUserService(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.hits = Counter.builder("user.lookups")
+                .description("User lookups by email, hit = served from the request-scoped cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("user.lookups")
+                .description("User lookups by email, hit = served from the request-scoped cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        Map<String, User> users = requestCache();
+        if (users == null) {
+            return userRepository.findByEmail(email);
+        }
+
+        User cached = users.get(email);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        Optional<User> user = userRepository.findByEmail(email);
+        user.ifPresent(u -> users.put(email, u));
+        return user;
+    }
+
+    public User getUserByEmail(String email) {
+        return findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    // User behind the authenticated request
+    public User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("User not authenticated");
+        }
+        return getUserByEmail(authentication.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, User> requestCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, User> users = (Map<String, User>) attributes.getAttribute(REQUEST_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (users == null) {
+            users = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, users, RequestAttributes.SCOPE_REQUEST);
+        }
+        return users;
+    }
+}
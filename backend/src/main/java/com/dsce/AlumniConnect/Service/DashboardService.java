@@ -40,7 +40,7 @@ public class DashboardService {
         try {
             User currentUser = profileService.getCurrentUserProfile();
             int jobsApplied = jobApplicationRepository.findByUserId(currentUser.getId()).size();
-            int events = eventService.getEventsUserIsAttending().size();
+            int events = (int) eventService.countEventsUserIsAttending(currentUser.getId());
             int mentorships = 0;
 
             return new DashboardStatsDTO(jobsApplied, events, mentorships);
@@ -0,0 +1,149 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.entity.Event;
+import com.dsce.AlumniConnect.entity.EventRSVP;
+import com.dsce.AlumniConnect.entity.EventRSVP.RsvpStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Capacity-enforced RSVPs.
+ * Event.registeredCount is the seat counter: a seat is taken with one conditional $inc that only matches while
+ * registeredCount < maxParticipants, so concurrent requests on a hot event serialize on that single document
+ * and can never overbook. The RSVP itself then moves to GOING; the unique (userId, eventId) index turns a
+ * duplicate request into a DuplicateKeyException, in which case the seat is handed back.
+ *
+ * When the event is full the RSVP becomes WAITLISTED, ordered by respondedAt. Every released seat (and every
+ * new waitlist entry, in case a seat was freed in between) promotes the longest-waiting RSVPs while seats last.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventRsvpService {
+
+    private static final int MAX_PROMOTIONS = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final CalendarFeedService calendarFeedService;
+
+    /**
+     * Applies the requested status and returns the one the user ended up with (GOING may become WAITLISTED).
+     */
+    public RsvpStatus respond(String eventId, String userId, RsvpStatus requested) {
+        if (requested == RsvpStatus.WAITLISTED) {
+            throw new IllegalArgumentException("Invalid RSVP status");
+        }
+        if (!mongoTemplate.exists(new Query(Criteria.where("id").is(eventId)), Event.class)) {
+            throw new RuntimeException("Event not found");
+        }
+        RsvpStatus status = requested == RsvpStatus.GOING ? join(eventId, userId) : leave(eventId, userId, requested);
+        calendarFeedService.rsvpsChanged(userId);
+        return status;
+    }
+
+    private RsvpStatus join(String eventId, String userId) {
+        if (!claimSeat(eventId)) {
+            RsvpStatus status = waitlist(eventId, userId);
+            promoteWaitlisted(eventId);
+            return status;
+        }
+        try {
+            // Matches unless the user is already GOING; then the upsert collides with the unique index
+            mongoTemplate.upsert(rsvpQuery(eventId, userId).addCriteria(Criteria.where("status").ne(RsvpStatus.GOING)),
+                    respondedUpdate(RsvpStatus.GOING), EventRSVP.class);
+        } catch (DuplicateKeyException e) {
+            releaseSeat(eventId); // Already GOING
+            promoteWaitlisted(eventId);
+        } catch (RuntimeException e) {
+            releaseSeat(eventId);
+            throw e;
+        }
+        return RsvpStatus.GOING;
+    }
+
+    // Keeps an existing GOING or WAITLISTED response (and its place in the queue) as it is
+    private RsvpStatus waitlist(String eventId, String userId) {
+        try {
+            mongoTemplate.upsert(rsvpQuery(eventId, userId)
+                            .addCriteria(Criteria.where("status").nin(RsvpStatus.GOING, RsvpStatus.WAITLISTED)),
+                    respondedUpdate(RsvpStatus.WAITLISTED), EventRSVP.class);
+            log.info("Event {} is full, user {} waitlisted", eventId, userId);
+            return RsvpStatus.WAITLISTED;
+        } catch (DuplicateKeyException e) {
+            EventRSVP current = mongoTemplate.findOne(rsvpQuery(eventId, userId), EventRSVP.class);
+            return current != null ? current.getStatus() : RsvpStatus.WAITLISTED;
+        }
+    }
+
+    private RsvpStatus leave(String eventId, String userId, RsvpStatus requested) {
+        EventRSVP previous = mongoTemplate.findAndModify(rsvpQuery(eventId, userId),
+                respondedUpdate(requested),
+                FindAndModifyOptions.options().upsert(true).returnNew(false),
+                EventRSVP.class);
+        if (previous != null && previous.getStatus() == RsvpStatus.GOING) {
+            releaseSeat(eventId);
+            promoteWaitlisted(eventId);
+        }
+        return requested;
+    }
+
+    /**
+     * Moves the longest-waiting RSVPs to GOING while seats are free. Seats are claimed before the RSVP is
+     * flipped, so a waitlisted user who leaves concurrently only costs a release.
+     */
+    public void promoteWaitlisted(String eventId) {
+        for (int promoted = 0; promoted < MAX_PROMOTIONS; promoted++) {
+            Query next = new Query(Criteria.where("eventId").is(eventId).and("status").is(RsvpStatus.WAITLISTED))
+                    .with(Sort.by("respondedAt", "_id"));
+            if (!mongoTemplate.exists(next, EventRSVP.class) || !claimSeat(eventId)) {
+                return;
+            }
+
+            EventRSVP rsvp = mongoTemplate.findAndModify(next,
+                    new Update().set("status", RsvpStatus.GOING).set("respondedAt", LocalDateTime.now()),
+                    FindAndModifyOptions.options().returnNew(true),
+                    EventRSVP.class);
+            if (rsvp == null) {
+                releaseSeat(eventId); // The waitlist emptied in between
+                return;
+            }
+            calendarFeedService.rsvpsChanged(rsvp.getUserId());
+            log.info("Promoted user {} from the waitlist of event {}", rsvp.getUserId(), eventId);
+        }
+    }
+
+    // Conditional $inc: only matches while a seat is free (no maxParticipants means unlimited)
+    private boolean claimSeat(String eventId) {
+        Criteria hasSeat = new Criteria().orOperator(
+                Criteria.where("maxParticipants").is(null),
+                Criteria.expr(ComparisonOperators.valueOf("registeredCount").lessThan("maxParticipants")));
+        Query query = new Query(Criteria.where("id").is(eventId)).addCriteria(hasSeat);
+        return mongoTemplate.updateFirst(query, new Update().inc("registeredCount", 1), Event.class)
+                .getModifiedCount() == 1;
+    }
+
+    private void releaseSeat(String eventId) {
+        Query query = new Query(Criteria.where("id").is(eventId).and("registeredCount").gt(0));
+        mongoTemplate.updateFirst(query, new Update().inc("registeredCount", -1), Event.class);
+    }
+
+    private Query rsvpQuery(String eventId, String userId) {
+        return new Query(Criteria.where("userId").is(userId).and("eventId").is(eventId));
+    }
+
+    // On upsert, userId and eventId are copied from the query's equality conditions
+    private Update respondedUpdate(RsvpStatus status) {
+        return new Update().set("status", status).set("respondedAt", LocalDateTime.now());
+    }
+}
@@ -1,22 +1,38 @@
 package com.dsce.AlumniConnect.Service;
 
 import com.dsce.AlumniConnect.DTO.EventDTO;
+import com.dsce.AlumniConnect.DTO.EventPageResponse;
 import com.dsce.AlumniConnect.Repository.EventRSVPRepository;
 import com.dsce.AlumniConnect.Repository.EventRepository;
 import com.dsce.AlumniConnect.entity.Event;
 import com.dsce.AlumniConnect.entity.EventRSVP;
 import com.dsce.AlumniConnect.entity.User;
+import com.dsce.AlumniConnect.util.EventSchedule;
+import com.dsce.AlumniConnect.util.PageCursor;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,12 +43,55 @@ public class EventService {
     private final EventRepository eventRepository;
     private final EventRSVPRepository eventRSVPRepository;
     private final ProfileService profileService;
+    private final BufferedCounterService bufferedCounterService;
+    private final CacheManager cacheManager;
+    private final UniqueViewerService uniqueViewerService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final EventRsvpService eventRsvpService;
+    private final CalendarFeedService calendarFeedService;
+
+    private static final String EVENTS_CACHE = "events";
+    // eventId -> views stored in Mongo as of the last flush, read back over the cached event lists
+    private static final String FLUSHED_VIEWS_KEY = "events:flushed-views";
+    // Outlives any allEvents/featuredEvents entry cached before the last write to the hash
+    private static final Duration FLUSHED_VIEWS_TTL = Duration.ofHours(1);
+
+    // Once buffered views reach Mongo, drop just those events' cached DTOs and record their stored totals,
+    // so list caches can keep their TTL without showing fewer views than before the flush
+    @PostConstruct
+    void evictEventsOnViewFlush() {
+        bufferedCounterService.addFlushListener(Event.class, eventIds -> {
+            Cache events = cacheManager.getCache("events");
+            if (events != null) {
+                eventIds.forEach(events::evict);
+            }
+            recordFlushedViews(eventIds);
+        });
+    }
+
+    private void recordFlushedViews(Set<String> eventIds) {
+        Query query = new Query(Criteria.where("id").in(eventIds));
+        query.fields().include("views");
+        Map<String, Object> views = new HashMap<>();
+        for (Event event : mongoTemplate.find(query, Event.class)) {
+            views.put(event.getId(), event.getViews() != null ? event.getViews() : 0);
+        }
+        if (views.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForHash().putAll(FLUSHED_VIEWS_KEY, views);
+            redisTemplate.expire(FLUSHED_VIEWS_KEY, FLUSHED_VIEWS_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to record flushed event views, cached lists may lag until they expire. Error: {}",
+                    e.getMessage());
+        }
+    }
 
     @Cacheable(value = "allEvents")
     public List<EventDTO> getAllEventDTOs() {
-        return eventRepository.findAll().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return mapToDTOs(eventRepository.findAll());
     }
 
     public List<EventDTO> getAllEventsWithUserStatus() {
@@ -44,8 +103,7 @@ public class EventService {
         Map<String, String> rsvpMap = userRsvps.stream()
                 .collect(Collectors.toMap(EventRSVP::getEventId, r -> r.getStatus().name(), (v1, v2) -> v1)); // merge function in case of dupes
 
-        return cachedEvents.stream().map(cachedDto -> {
-            EventDTO dto = new EventDTO(cachedDto);
+        return withPendingViews(cachedEvents).stream().map(dto -> {
             String status = rsvpMap.get(dto.getId());
             if (status != null) {
                 dto.setUserRsvpStatus(status);
@@ -63,17 +121,19 @@ public class EventService {
         
         log.info("Found {} RSVPs with GOING status for user: {}", rsvps.size(), currentUser.getId());
 
+        List<String> eventIds = rsvps.stream().map(EventRSVP::getEventId).collect(Collectors.toList());
+        Map<String, EventDTO> dtosById = getEventDTOsByIds(eventIds);
+
         List<EventDTO> events = rsvps.stream()
                 .map(rsvp -> {
-                    try {
-                        EventDTO cachedDto = getEventDTOById(rsvp.getEventId());
-                        EventDTO dto = new EventDTO(cachedDto);
-                        dto.setUserRsvpStatus(rsvp.getStatus().name());
-                        return dto;
-                    } catch (Exception e) {
-                        log.warn("Event not found or cache error for RSVP event ID: {}", rsvp.getEventId());
+                    EventDTO cachedDto = dtosById.get(rsvp.getEventId());
+                    if (cachedDto == null) {
+                        log.warn("Event not found for RSVP event ID: {}", rsvp.getEventId());
                         return null;
                     }
+                    EventDTO dto = withPendingViews(cachedDto);
+                    dto.setUserRsvpStatus(rsvp.getStatus().name());
+                    return dto;
                 })
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
@@ -82,13 +142,101 @@ public class EventService {
         return events;
     }
 
+    public long countEventsUserIsAttending(String userId) {
+        return eventRSVPRepository.countByUserIdAndStatus(userId, EventRSVP.RsvpStatus.GOING);
+    }
+
+    /**
+     * Batch form of getEventDTOById sharing its "events" cache entries: one MGET over the events::id keys,
+     * one findAllById for the misses, then the misses are written back. Unknown ids are left out.
+     */
+    private Map<String, EventDTO> getEventDTOsByIds(List<String> eventIds) {
+        List<String> ids = eventIds.stream().distinct().collect(Collectors.toList());
+        Map<String, EventDTO> dtosById = new HashMap<>();
+        if (ids.isEmpty()) {
+            return dtosById;
+        }
+
+        try {
+            List<String> keys = ids.stream().map(id -> EVENTS_CACHE + "::" + id).collect(Collectors.toList());
+            List<Object> cached = redisTemplate.opsForValue().multiGet(keys);
+            if (cached != null) {
+                for (int i = 0; i < ids.size(); i++) {
+                    if (cached.get(i) instanceof EventDTO dto) {
+                        dtosById.put(ids.get(i), dto);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Event cache multi-get failed, loading from database. Error: {}", e.getMessage());
+        }
+
+        List<String> misses = ids.stream().filter(id -> !dtosById.containsKey(id)).collect(Collectors.toList());
+        if (misses.isEmpty()) {
+            return dtosById;
+        }
+        Cache cache = cacheManager.getCache(EVENTS_CACHE);
+        for (EventDTO dto : mapToDTOs(eventRepository.findAllById(misses))) {
+            dtosById.put(dto.getId(), dto);
+            if (cache != null) {
+                cache.put(dto.getId(), dto); // Errors go to the cache error handler, like @Cacheable's
+            }
+        }
+        log.debug("Hydrated {} events, {} from the database", dtosById.size(), misses.size());
+        return dtosById;
+    }
+
+    // Featured events that have not ended, soonest first, served by featured_startAt_idx
     @Cacheable(value = "featuredEvents")
     public List<EventDTO> getFeaturedEvents() {
-        List<Event> events = eventRepository.findAll();
-        return events.stream()
-                .filter(Event::isFeatured)
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        Query query = new Query(Criteria.where("featured").is(true).and("endAt").gte(LocalDateTime.now()))
+                .with(Sort.by(Sort.Direction.ASC, "startAt"));
+        return mapToDTOs(mongoTemplate.find(query, Event.class));
+    }
+
+    /**
+     * Events starting in [from, to), optionally in one category, ordered by start time with cursor pagination.
+     * from defaults to now so past events are never read; served by the (category,) startAt, _id indexes.
+     */
+    public EventPageResponse getEventsInRange(LocalDateTime from, LocalDateTime to, String category,
+            String cursor, int size) {
+        if (to != null && from != null && !to.isAfter(from)) {
+            throw new IllegalArgumentException("'to' must be after 'from'");
+        }
+        PageCursor after = PageCursor.decode(cursor);
+
+        Criteria startAt = Criteria.where("startAt").gte(from != null ? from : LocalDateTime.now());
+        if (to != null) {
+            startAt.lt(to);
+        }
+        Query query = new Query(startAt)
+                .with(PageCursor.sort("startAt", Sort.Direction.ASC))
+                .limit(size + 1);
+        if (category != null && !category.isBlank()) {
+            query.addCriteria(Criteria.where("category").is(category));
+        }
+        if (after != null) {
+            query.addCriteria(after.after("startAt", Sort.Direction.ASC));
+        }
+        List<Event> events = mongoTemplate.find(query, Event.class);
+
+        String nextCursor = null;
+        if (events.size() > size) {
+            events = events.subList(0, size);
+            Event last = events.get(size - 1);
+            nextCursor = new PageCursor(last.getStartAt(), last.getId()).encode();
+        }
+
+        List<EventDTO> dtos = withPendingViews(mapToDTOs(events));
+        if (!dtos.isEmpty()) {
+            User currentUser = profileService.getCurrentUserProfile();
+            List<String> eventIds = dtos.stream().map(EventDTO::getId).collect(Collectors.toList());
+            Map<String, String> rsvpMap = eventRSVPRepository.findByUserIdAndEventIdIn(currentUser.getId(), eventIds)
+                    .stream()
+                    .collect(Collectors.toMap(EventRSVP::getEventId, r -> r.getStatus().name(), (v1, v2) -> v1));
+            dtos.forEach(dto -> dto.setUserRsvpStatus(rsvpMap.get(dto.getId())));
+        }
+        return new EventPageResponse(dtos, nextCursor);
     }
 
     @CacheEvict(value = {"allEvents", "featuredEvents", "events", "dashboardStats"}, allEntries = true)
@@ -111,7 +259,8 @@ public class EventService {
         event.setFeatured(eventDTO.isFeatured());
         event.setImageUrl(eventDTO.getImageUrl());
 
-        event.setEventDate(LocalDateTime.now()); // Simplified date handling
+        event.setEventDate(LocalDateTime.now());
+        applySchedule(event, eventDTO);
         
         // Set time field for frontend display
         if (eventDTO.getStarttime() != null && eventDTO.getEndtime() != null) {
@@ -121,33 +270,65 @@ public class EventService {
         }
 
         Event savedEvent = eventRepository.save(event);
+        calendarFeedService.eventsChanged();
         return mapToDTO(savedEvent);
     }
 
-    @CacheEvict(value = {"dashboardStats"}, allEntries = true)
-    public void rsvpEvent(String eventId, String status) {
-        User currentUser = profileService.getCurrentUserProfile();
-        EventRSVP.RsvpStatus rsvpStatus = EventRSVP.RsvpStatus.valueOf(status.toUpperCase());
-        
-        log.info("RSVP request - User: {}, Event: {}, Status: {}", currentUser.getId(), eventId, status);
+    // startAt/endAt from ISO input when given (filling day/month/starttime for display), else from the display fields.
+    // As before startAt existed, an unreadable day/month is accepted: the event is saved unscheduled, like the events
+    // V10 could not backfill, and is left out of the range pages, featured list and calendar feeds.
+    private void applySchedule(Event event, EventDTO eventDTO) {
+        LocalDateTime startAt = eventDTO.getStartAt();
+        LocalDateTime endAt = eventDTO.getEndAt();
+        if (startAt != null) {
+            if (event.getDay() == null || event.getDay().isBlank()) {
+                event.setDay(String.format("%02d", startAt.getDayOfMonth()));
+            }
+            if (event.getMonth() == null || event.getMonth().isBlank()) {
+                event.setMonth(EventSchedule.monthLabel(startAt));
+            }
+        } else {
+            LocalDate deadline = EventSchedule.parseDate(eventDTO.getRegistrationDeadline());
+            LocalDate reference = deadline != null ? deadline : event.getEventDate().toLocalDate();
+            startAt = EventSchedule.startOf(event.getDay(), event.getMonth(), event.getStarttime(), reference);
+            if (startAt == null) {
+                log.warn("Event '{}' has no readable date (day={}, month={}), saving it unscheduled",
+                        event.getTitle(), event.getDay(), event.getMonth());
+                return;
+            }
+        }
+        if (endAt == null) {
+            endAt = EventSchedule.endOf(startAt, event.getStarttime(), event.getEndtime());
+        } else if (!endAt.isAfter(startAt)) {
+            throw new IllegalArgumentException("Event end must be after its start");
+        }
+        event.setStartAt(startAt);
+        event.setEndAt(endAt);
+    }
 
-        Optional<EventRSVP> existingRsvp = eventRSVPRepository.findByUserIdAndEventId(currentUser.getId(), eventId);
+    public String getCalendarToken() {
+        return calendarFeedService.calendarToken(profileService.getCurrentUserProfile().getId());
+    }
 
-        EventRSVP rsvp;
-        if (existingRsvp.isPresent()) {
-            rsvp = existingRsvp.get();
-            rsvp.setStatus(rsvpStatus);
-            log.info("Updated existing RSVP for user: {}, event: {}", currentUser.getId(), eventId);
-        } else {
-            rsvp = new EventRSVP();
-            rsvp.setUserId(currentUser.getId());
-            rsvp.setEventId(eventId);
-            rsvp.setStatus(rsvpStatus);
-            log.info("Created new RSVP for user: {}, event: {}", currentUser.getId(), eventId);
+    public String rotateCalendarToken() {
+        return calendarFeedService.rotateToken(profileService.getCurrentUserProfile().getId());
+    }
+
+    // Returns the resulting status: GOING is answered with WAITLISTED when the event is full
+    @CacheEvict(value = {"dashboardStats"}, allEntries = true)
+    public String rsvpEvent(String eventId, String status) {
+        User currentUser = profileService.getCurrentUserProfile();
+        EventRSVP.RsvpStatus rsvpStatus;
+        try {
+            rsvpStatus = EventRSVP.RsvpStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid RSVP status");
         }
 
-        EventRSVP savedRsvp = eventRSVPRepository.save(rsvp);
-        log.info("Saved RSVP with ID: {}", savedRsvp.getId());
+        log.info("RSVP request - User: {}, Event: {}, Status: {}", currentUser.getId(), eventId, status);
+        EventRSVP.RsvpStatus result = eventRsvpService.respond(eventId, currentUser.getId(), rsvpStatus);
+        log.info("RSVP for user: {}, event: {} is now {}", currentUser.getId(), eventId, result);
+        return result.name();
     }
 
     @Cacheable(value = "events", key = "#eventId")
@@ -162,7 +343,9 @@ public class EventService {
     public EventDTO getEventById(String eventId) {
         User currentUser = profileService.getCurrentUserProfile();
         EventDTO cachedDto = getEventDTOById(eventId);
-        EventDTO dto = new EventDTO(cachedDto);
+        EventDTO dto = withPendingViews(cachedDto);
+        dto.setUniqueViewers(uniqueViewerService.count(Event.class, eventId));
+        dto.setRegisteredCount(currentRegisteredCount(eventId, dto.getRegisteredCount()));
 
         Optional<EventRSVP> rsvp = eventRSVPRepository.findByUserIdAndEventId(currentUser.getId(), eventId);
         rsvp.ifPresent(r -> dto.setUserRsvpStatus(r.getStatus().name()));
@@ -170,7 +353,25 @@ public class EventService {
         return dto;
     }
 
+    // Seats change on every RSVP, so the detail view reads the counter instead of trusting the cached DTO
+    private Integer currentRegisteredCount(String eventId, Integer cached) {
+        Query query = new Query(Criteria.where("id").is(eventId));
+        query.fields().include("registeredCount");
+        Event event = mongoTemplate.findOne(query, Event.class);
+        return event != null && event.getRegisteredCount() != null ? event.getRegisteredCount() : cached;
+    }
+
     private EventDTO mapToDTO(Event event) {
+        return mapToDTOs(List.of(event)).get(0);
+    }
+
+    private List<EventDTO> mapToDTOs(List<Event> events) {
+        return events.stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    private EventDTO toDTO(Event event) {
         EventDTO dto = new EventDTO();
         dto.setId(event.getId());
         dto.setTitle(event.getTitle());
@@ -187,28 +388,71 @@ public class EventService {
         dto.setOrganizerName(event.getOrganizerName());
         dto.setOrganizerContact(event.getOrganizerContact());
         dto.setLocation(event.getLocation());
+        dto.setStartAt(event.getStartAt());
+        dto.setEndAt(event.getEndAt());
         dto.setFeatured(event.isFeatured());
         dto.setImageUrl(event.getImageUrl());
-        
-        long registeredCount = eventRSVPRepository.countByEventIdAndStatus(event.getId(), EventRSVP.RsvpStatus.GOING);
-        dto.setRegisteredCount((int) registeredCount);
+        dto.setRegisteredCount(event.getRegisteredCount() != null ? event.getRegisteredCount() : 0);
         
         // Set engagement metrics
         dto.setLikes(event.getLikes());
         dto.setViews(event.getViews());
+        dto.setUniqueViewers(event.getUniqueViewers());
         dto.setComments(event.getComments());
         
         return dto;
     }
     
-    @CacheEvict(value = {"events", "allEvents", "featuredEvents"}, allEntries = true)
-    public void incrementViewCount(String eventId) {
-        Optional<Event> eventOpt = eventRepository.findById(eventId);
-        if (eventOpt.isPresent()) {
-            Event event = eventOpt.get();
-            event.setViews((event.getViews() != null ? event.getViews() : 0) + 1);
-            eventRepository.save(event);
-            log.info("Incremented view count for event: {}", eventId);
+    // Buffered and flushed as a bulk $inc; cached DTOs are left alone and responses add the pending views
+    public void incrementViewCount(String eventId, String viewerEmail) {
+        bufferedCounterService.increment(Event.class, eventId, "views");
+        uniqueViewerService.recordView(Event.class, eventId, viewerEmail);
+    }
+
+    /**
+     * For cached event lists: each copy shows at least the views stored at the last flush, plus the
+     * views still buffered, so a flush never makes a list's count drop while the list itself is cached.
+     */
+    public List<EventDTO> withPendingViews(List<EventDTO> events) {
+        Map<String, Integer> flushed = flushedViews(events);
+        return events.stream()
+                .map(cachedDto -> {
+                    Integer stored = flushed.get(cachedDto.getId());
+                    if (stored != null && (cachedDto.getViews() == null || cachedDto.getViews() < stored)) {
+                        cachedDto = new EventDTO(cachedDto);
+                        cachedDto.setViews(stored);
+                    }
+                    return withPendingViews(cachedDto);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Integer> flushedViews(List<EventDTO> events) {
+        Map<String, Integer> flushed = new HashMap<>();
+        if (events.isEmpty()) {
+            return flushed;
+        }
+        List<Object> ids = events.stream().map(EventDTO::getId).collect(Collectors.toList());
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(FLUSHED_VIEWS_KEY, ids);
+            for (int i = 0; i < ids.size(); i++) {
+                if (values.get(i) instanceof Number views) {
+                    flushed.put((String) ids.get(i), views.intValue());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read flushed event views, showing cached counts. Error: {}", e.getMessage());
         }
+        return flushed;
+    }
+
+    // Copy of a (possibly cached) DTO with views not yet flushed to Mongo added
+    private EventDTO withPendingViews(EventDTO cachedDto) {
+        EventDTO dto = new EventDTO(cachedDto);
+        long pending = bufferedCounterService.pending(Event.class, dto.getId(), "views");
+        if (pending != 0) {
+            dto.setViews((int) ((dto.getViews() != null ? dto.getViews() : 0) + pending));
+        }
+        return dto;
     }
 }
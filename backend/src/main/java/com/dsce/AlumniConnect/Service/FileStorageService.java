@@ -3,6 +3,7 @@ package com.dsce.AlumniConnect.Service;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -12,12 +13,18 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -26,6 +33,10 @@ public class FileStorageService {
     @Autowired
     private Cloudinary cloudinary;
 
+    @Autowired
+    @Qualifier("mediaUploadExecutor")
+    private Executor mediaUploadExecutor;
+
     private final String RESUME_DIR = "resumes";
     private final String PROFILE_DIR = "profiles";
 
@@ -41,6 +52,8 @@ public class FileStorageService {
 
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
 
+    private static final long MEDIA_UPLOAD_TIMEOUT_SECONDS = 30;
+
     public CompletableFuture<String> uploadResume(MultipartFile file) {
         return CompletableFuture.supplyAsync(() -> {
             try {
@@ -99,22 +112,117 @@ public class FileStorageService {
     }
 
     public CompletableFuture<String> uploadBase64Image(String base64Data) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                validateBase64Image(base64Data);
-                Map<String, Object> uploadParams = ObjectUtils.asMap(
-                        "folder", "posts",
-                        "resource_type", "image"
-                );
-                Map<?, ?> uploadResult = cloudinary.uploader().upload(base64Data, uploadParams);
-                String url = uploadResult.get("secure_url").toString();
-                log.info("Base64 image uploaded successfully: {}", url);
-                return url;
-            } catch (Exception e) {
-                log.error("Failed to upload base64 image", e);
-                throw new RuntimeException("Base64 image upload failed: " + e.getMessage(), e);
+        return CompletableFuture.supplyAsync(() -> doUploadBase64Image(base64Data));
+    }
+
+    /**
+     * Uploads all base64 images of a post concurrently on the media upload pool.
+     * Returns URLs in the same order as the input; non-base64 entries are passed through.
+     * If any upload fails, the pool is saturated or the deadline passes, every image that did (or later does)
+     * upload is deleted again.
+     */
+    public List<String> uploadPostMedia(List<String> media) {
+        if (media == null || media.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<CompletableFuture<String>> uploads = new ArrayList<>(media.size());
+        for (String mediaItem : media) {
+            if (mediaItem != null && mediaItem.startsWith("data:image/")) {
+                try {
+                    uploads.add(CompletableFuture.supplyAsync(() -> doUploadBase64Image(mediaItem),
+                            mediaUploadExecutor));
+                } catch (RejectedExecutionException e) {
+                    discardUploads(media, uploads);
+                    throw new RuntimeException("Too many uploads in progress, please try again shortly", e);
+                }
+            } else {
+                uploads.add(CompletableFuture.completedFuture(mediaItem));
             }
-        });
+        }
+
+        try {
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture<?>[0]))
+                    .get(MEDIA_UPLOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discardUploads(media, uploads);
+            throw new RuntimeException("Media upload interrupted", e);
+        } catch (TimeoutException e) {
+            discardUploads(media, uploads);
+            throw new RuntimeException("Media upload timed out after " + MEDIA_UPLOAD_TIMEOUT_SECONDS + " seconds", e);
+        } catch (ExecutionException e) {
+            discardUploads(media, uploads);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException(cause.getMessage(), cause);
+        }
+
+        List<String> urls = new ArrayList<>(uploads.size());
+        for (CompletableFuture<String> upload : uploads) {
+            urls.add(upload.join());
+        }
+        return urls;
+    }
+
+    /**
+     * Deletes the images {@link #uploadPostMedia} created for the given media, e.g. when the post could not be saved.
+     * URLs that were passed through unchanged are left alone.
+     */
+    public void discardPostMedia(List<String> media, List<String> urls) {
+        if (media == null || urls == null) {
+            return;
+        }
+        for (int i = 0; i < media.size() && i < urls.size(); i++) {
+            String mediaItem = media.get(i);
+            String url = urls.get(i);
+            if (mediaItem != null && mediaItem.startsWith("data:image/") && url != null) {
+                compensate(() -> deleteFile(url));
+            }
+        }
+    }
+
+    // Compensation: remove whatever made it to Cloudinary, including uploads still in flight
+    private void discardUploads(List<String> media, List<CompletableFuture<String>> uploads) {
+        for (int i = 0; i < uploads.size(); i++) {
+            String mediaItem = media.get(i);
+            if (mediaItem == null || !mediaItem.startsWith("data:image/")) {
+                continue;
+            }
+            uploads.get(i).whenComplete((url, error) -> {
+                if (error == null && url != null) {
+                    compensate(() -> {
+                        deleteFile(url);
+                        log.info("Deleted orphaned post image after failed upload batch: {}", url);
+                    });
+                }
+            });
+        }
+    }
+
+    // Deletes run on the upload pool, or inline when it is saturated, so a cleanup is never dropped
+    private void compensate(Runnable delete) {
+        try {
+            mediaUploadExecutor.execute(delete);
+        } catch (RejectedExecutionException e) {
+            delete.run();
+        }
+    }
+
+    private String doUploadBase64Image(String base64Data) {
+        try {
+            validateBase64Image(base64Data);
+            Map<String, Object> uploadParams = ObjectUtils.asMap(
+                    "folder", "posts",
+                    "resource_type", "image"
+            );
+            Map<?, ?> uploadResult = cloudinary.uploader().upload(base64Data, uploadParams);
+            String url = uploadResult.get("secure_url").toString();
+            log.info("Base64 image uploaded successfully: {}", url);
+            return url;
+        } catch (Exception e) {
+            log.error("Failed to upload base64 image", e);
+            throw new RuntimeException("Base64 image upload failed: " + e.getMessage(), e);
+        }
     }
 
     private void validateBase64Image(String base64Data) {
@@ -2,7 +2,6 @@ package com.dsce.AlumniConnect.Service;
 
 import com.dsce.AlumniConnect.DTO.JobPostDTO;
 import com.dsce.AlumniConnect.Repository.JobPostRepository;
-import com.dsce.AlumniConnect.Repository.UserRepository;
 import com.dsce.AlumniConnect.entity.JobPost;
 import com.dsce.AlumniConnect.entity.User;
 import org.modelmapper.ModelMapper;
@@ -24,7 +23,7 @@ public class JobPostService {
     private JobPostRepository jobPostRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private CurrentUserService currentUserService;
 
     @Autowired
     private ModelMapper modelMapper;
@@ -33,7 +32,7 @@ public class JobPostService {
     public JobPostDTO createJobPost(JobPostDTO jobPostDTO) {
         String email = ((UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal())
                 .getUsername();
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+        User user = currentUserService.getUserByEmail(email);
 
         JobPost jobPost = modelMapper.map(jobPostDTO, JobPost.class);
         jobPost.setPostedBy(user);
@@ -55,7 +54,7 @@ public class JobPostService {
     public List<JobPostDTO> getMyJobs() {
         String email = ((UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal())
                 .getUsername();
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+        User user = currentUserService.getUserByEmail(email);
 
         return jobPostRepository.findByPostedByIdOrderByCreatedAtDesc(user.getId()).stream()
                 .map(this::convertToDTO)
@@ -73,7 +72,7 @@ public class JobPostService {
     public void deleteJobPost(String id) {
         String email = ((UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal())
                 .getUsername();
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
+        User user = currentUserService.getUserByEmail(email);
 
         JobPost jobPost = jobPostRepository.findById(id).orElseThrow(() -> new RuntimeException("Job not found"));
 
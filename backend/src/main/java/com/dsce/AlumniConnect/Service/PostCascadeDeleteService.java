@@ -0,0 +1,187 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.Repository.PostDeletionJobRepository;
+import com.dsce.AlumniConnect.entity.Comment;
+import com.dsce.AlumniConnect.entity.Post;
+import com.dsce.AlumniConnect.entity.PostBookmark;
+import com.dsce.AlumniConnect.entity.PostDeletionJob;
+import com.dsce.AlumniConnect.entity.PostLike;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes a post's comments, like/bookmark edges and uploaded media off the request thread.
+ * Each post gets a PostDeletionJob; the worker removes children in batches of BATCH_SIZE and records
+ * progress after every batch. Every step is idempotent, so a job whose worker died (heartbeat older
+ * than STALE_MINUTES) is simply claimed again by the sweep and continues where it stopped.
+ */
+@Slf4j
+@Service
+public class PostCascadeDeleteService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int STALE_MINUTES = 5;
+
+    private final MongoTemplate mongoTemplate;
+    private final PostDeletionJobRepository jobRepository;
+    private final FileStorageService fileStorageService;
+    private final Executor executor;
+
+    public PostCascadeDeleteService(MongoTemplate mongoTemplate,
+            PostDeletionJobRepository jobRepository,
+            FileStorageService fileStorageService,
+            @Qualifier("cascadeDeleteExecutor") Executor executor) {
+        this.mongoTemplate = mongoTemplate;
+        this.jobRepository = jobRepository;
+        this.fileStorageService = fileStorageService;
+        this.executor = executor;
+    }
+
+    /**
+     * Records the job, removes the post itself right away and schedules the rest.
+     */
+    public PostDeletionJob deletePost(Post post, String requestedBy) {
+        PostDeletionJob job = jobRepository.save(new PostDeletionJob(post, requestedBy));
+        mongoTemplate.remove(new Query(Criteria.where("id").is(post.getId())), Post.class);
+        submit(job.getPostId());
+        return job;
+    }
+
+    public Optional<PostDeletionJob> getJob(String postId) {
+        return jobRepository.findById(postId);
+    }
+
+    public List<PostDeletionJob> getUnfinishedJobs() {
+        return jobRepository.findByStatusInOrderByCreatedAtDesc(
+                List.of(PostDeletionJob.Status.PENDING, PostDeletionJob.Status.RUNNING, PostDeletionJob.Status.FAILED));
+    }
+
+    // Picks up jobs that were never started, failed with attempts left, or lost their worker
+    @Scheduled(fixedDelayString = "${app.post-deletion.sweep-interval-ms:60000}")
+    public void resumeStaleJobs() {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("status").in(PostDeletionJob.Status.PENDING, PostDeletionJob.Status.RUNNING),
+                Criteria.where("updatedAt").lt(LocalDateTime.now().minusMinutes(STALE_MINUTES)),
+                Criteria.where("attempts").lt(MAX_ATTEMPTS)));
+        query.fields().include("id");
+        for (PostDeletionJob job : mongoTemplate.find(query, PostDeletionJob.class)) {
+            log.info("Resuming cascade delete of post {}", job.getPostId());
+            submit(job.getPostId());
+        }
+    }
+
+    private void submit(String postId) {
+        try {
+            executor.execute(() -> run(postId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Cascade delete queue full, post {} will be picked up by the sweep", postId);
+        }
+    }
+
+    private void run(String postId) {
+        PostDeletionJob job = claim(postId);
+        if (job == null) {
+            return; // Finished, or another worker holds a fresh heartbeat
+        }
+
+        try {
+            // The post may still exist if we crashed between saving the job and removing it
+            mongoTemplate.remove(new Query(Criteria.where("id").is(postId)), Post.class);
+            deleteInBatches(postId, Comment.class, "commentsDeleted");
+            deleteInBatches(postId, PostLike.class, "likesDeleted");
+            deleteInBatches(postId, PostBookmark.class, "bookmarksDeleted");
+            deleteMedia(job);
+
+            mongoTemplate.updateFirst(jobQuery(postId), new Update()
+                    .set("status", PostDeletionJob.Status.COMPLETED)
+                    .set("updatedAt", LocalDateTime.now())
+                    .set("completedAt", LocalDateTime.now())
+                    .unset("lastError"), PostDeletionJob.class);
+            log.info("Cascade delete of post {} completed", postId);
+        } catch (Exception e) {
+            PostDeletionJob.Status status = job.getAttempts() >= MAX_ATTEMPTS
+                    ? PostDeletionJob.Status.FAILED
+                    : PostDeletionJob.Status.PENDING;
+            mongoTemplate.updateFirst(jobQuery(postId), new Update()
+                    .set("status", status)
+                    .set("updatedAt", LocalDateTime.now())
+                    .set("lastError", e.getMessage()), PostDeletionJob.class);
+            log.error("Cascade delete of post {} failed (attempt {}): {}", postId, job.getAttempts(), e.getMessage());
+        }
+    }
+
+    // Atomically moves a runnable job to RUNNING so concurrent sweeps cannot process it twice
+    private PostDeletionJob claim(String postId) {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("id").is(postId),
+                Criteria.where("attempts").lt(MAX_ATTEMPTS),
+                new Criteria().orOperator(
+                        Criteria.where("status").is(PostDeletionJob.Status.PENDING),
+                        Criteria.where("status").is(PostDeletionJob.Status.RUNNING)
+                                .and("updatedAt").lt(LocalDateTime.now().minusMinutes(STALE_MINUTES)))));
+        Update update = new Update()
+                .set("status", PostDeletionJob.Status.RUNNING)
+                .set("updatedAt", LocalDateTime.now())
+                .inc("attempts", 1);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+                PostDeletionJob.class);
+    }
+
+    private void deleteInBatches(String postId, Class<?> entityClass, String progressField) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        while (true) {
+            Query batch = new Query(Criteria.where("postId").is(postId)).limit(BATCH_SIZE);
+            batch.fields().include("_id");
+            List<Object> ids = mongoTemplate.find(batch, Document.class, collection).stream()
+                    .map(document -> document.get("_id"))
+                    .collect(Collectors.toList());
+            if (ids.isEmpty()) {
+                return;
+            }
+
+            long deleted = mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), collection)
+                    .getDeletedCount();
+            heartbeat(postId, new Update().inc(progressField, deleted));
+            if (ids.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    // Media entries that are not uploaded URLs (legacy inline base64) have nothing to delete
+    private void deleteMedia(PostDeletionJob job) {
+        List<String> media = job.getMedia();
+        for (int i = job.getMediaDeleted(); i < media.size(); i++) {
+            String url = media.get(i);
+            if (url != null && (url.startsWith("http://") || url.startsWith("https://"))) {
+                fileStorageService.deleteFile(url);
+            }
+            heartbeat(job.getPostId(), new Update().set("mediaDeleted", i + 1));
+        }
+    }
+
+    private void heartbeat(String postId, Update update) {
+        mongoTemplate.updateFirst(jobQuery(postId), update.set("updatedAt", LocalDateTime.now()),
+                PostDeletionJob.class);
+    }
+
+    private Query jobQuery(String postId) {
+        return new Query(Criteria.where("id").is(postId));
+    }
+}
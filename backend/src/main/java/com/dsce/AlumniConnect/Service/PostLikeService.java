@@ -0,0 +1,78 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.Repository.PostLikeRepository;
+import com.dsce.AlumniConnect.entity.Post;
+import com.dsce.AlumniConnect.entity.PostLike;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Like engine for posts.
+ * Likes live in the post_likes edge collection; the unique (postId, userId) index decides whether
+ * a toggle is a like or an unlike, and the post only receives an atomic $inc on its counter.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeService {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final PostLikeRepository postLikeRepository;
+
+    public LikeResult toggleLike(String postId, String userId) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            boolean liked;
+            try {
+                postLikeRepository.insert(new PostLike(postId, userId));
+                liked = true;
+            } catch (DuplicateKeyException e) {
+                // Already liked - remove the edge instead. Zero means a concurrent unlike won, so retry.
+                if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) == 0) {
+                    log.debug("Like toggle raced for post {} by user {}, retrying", postId, userId);
+                    continue;
+                }
+                liked = false;
+            }
+
+            Post updated = incrementLikes(postId, liked ? 1 : -1);
+            if (updated == null) {
+                if (liked) {
+                    postLikeRepository.deleteByPostIdAndUserId(postId, userId);
+                }
+                throw new RuntimeException("Post not found");
+            }
+            return new LikeResult(updated, liked, likesOf(updated));
+        }
+        throw new RuntimeException("Could not update like, please try again");
+    }
+
+    private Post incrementLikes(String postId, int delta) {
+        Query query = new Query(Criteria.where("id").is(postId));
+        query.fields().exclude("reportedBy", "commentIds");
+        return mongoTemplate.findAndModify(query, new Update().inc("likes", delta),
+                FindAndModifyOptions.options().returnNew(true), Post.class);
+    }
+
+    private int likesOf(Post post) {
+        return post.getLikes() != null ? Math.max(0, post.getLikes()) : 0;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LikeResult {
+        private final Post post; // Updated post, without its embedded id arrays
+        private final boolean liked;
+        private final int likes;
+    }
+}
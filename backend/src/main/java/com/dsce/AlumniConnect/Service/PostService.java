@@ -1,23 +1,38 @@
 package com.dsce.AlumniConnect.Service;
 
 import com.dsce.AlumniConnect.DTO.CreatePostRequest;
+import com.dsce.AlumniConnect.DTO.PostFeedResponse;
 import com.dsce.AlumniConnect.DTO.PostResponse;
+import com.dsce.AlumniConnect.DTO.TrendingHashtag;
 import com.dsce.AlumniConnect.DTO.UpdatePostRequest;
 import com.dsce.AlumniConnect.entity.Post;
+import com.dsce.AlumniConnect.entity.PostBookmark;
+import com.dsce.AlumniConnect.entity.PostLike;
 import com.dsce.AlumniConnect.entity.User;
-import com.dsce.AlumniConnect.Repository.CommentRepository;
+import com.dsce.AlumniConnect.Repository.PostBookmarkRepository;
+import com.dsce.AlumniConnect.Repository.PostLikeRepository;
 import com.dsce.AlumniConnect.Repository.PostRepository;
-import com.dsce.AlumniConnect.Repository.UserRepository;
+import com.dsce.AlumniConnect.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,32 +40,111 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PostService {
 
+    // Everything PostResponse needs. reportedBy, commentIds and the author DBRef never leave the database on reads.
+    private static final String[] RESPONSE_FIELDS = {
+            "id", "authorId", "authorName", "authorAvatar", "authorRole", "graduationYear", "department",
+            "content", "createdAt", "likes", "comments", "shares", "uniqueViewers", "media", "hashtags", "mentions"
+    };
+
     private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final FileStorageService fileStorageService;
+    private final PostLikeService postLikeService;
+    private final PostTimelineService postTimelineService;
+    private final PostLikeRepository postLikeRepository;
+    private final PostBookmarkRepository postBookmarkRepository;
+    private final MongoTemplate mongoTemplate;
+    private final TrendingService trendingService;
+    private final BufferedCounterService bufferedCounterService;
+    private final PostCascadeDeleteService postCascadeDeleteService;
+    private final UniqueViewerService uniqueViewerService;
+
+    public List<PostResponse> getAllPosts(String userEmail, String department, int page, int size) {
+        List<Post> posts;
+        List<String> timelineIds = postTimelineService.readPage(department, (long) page * size, size);
+        if (timelineIds != null) {
+            posts = hydrate(timelineIds, id -> postTimelineService.remove(id, department));
+        } else {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+            posts = findResponseFields(departmentQuery(department).with(pageable));
+        }
+        User currentUser = getUserByEmail(userEmail);
 
-    public List<PostResponse> getAllPosts(String userEmail, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        List<Post> posts = postRepository.findAll(pageable).getContent();
+        return convertToPostResponses(posts, currentUser);
+    }
+
+    // Ranked by TrendingService's decayed engagement score; the per-department ranking and any window past
+    // the board fall back to the likes index
+    // The trending board is global; when Redis is unavailable, likes stand in for engagement
+    public List<PostResponse> getTrendingPosts(String userEmail, String department, int page, int size) {
+        if (department != null) {
+            throw new IllegalArgumentException("Trending posts are not available per department");
+        }
+        List<String> trendingIds = trendingService.getTrendingPostIds((long) page * size, size);
+
+        List<Post> posts;
+        if (trendingIds != null) {
+            posts = hydrate(trendingIds, trendingService::removePost);
+        } else {
+            Pageable pageable = PageRequest.of(page, size,
+                    Sort.by(Sort.Direction.DESC, "likes").and(Sort.by(Sort.Direction.DESC, "createdAt")));
+            posts = findResponseFields(new Query().with(pageable));
+        }
         User currentUser = getUserByEmail(userEmail);
 
-        return posts.stream()
-                .map(post -> convertToPostResponse(post, currentUser))
-                .collect(Collectors.toList());
+        return convertToPostResponses(posts, currentUser);
+    }
+
+    // Keyset pagination: a range query on (createdAt, _id) costs the same on every page
+    public PostFeedResponse getFeedPage(String userEmail, String department, String cursor, int size) {
+        return keysetPage(departmentQuery(department), userEmail, cursor, size);
+    }
+
+    // Served by the multikey (hashtags, createdAt, _id) index
+    public PostFeedResponse getPostsByHashtag(String userEmail, String hashtag, String cursor, int size) {
+        String tag = normalizeHashtag(hashtag);
+        if (tag.isEmpty()) {
+            throw new IllegalArgumentException("Invalid hashtag");
+        }
+        return keysetPage(new Query(Criteria.where("hashtags").is(tag)), userEmail, cursor, size);
+    }
+
+    public List<TrendingHashtag> getTrendingHashtags(int limit) {
+        return trendingService.getTrendingHashtags(limit);
+    }
+
+    private PostFeedResponse keysetPage(Query query, String userEmail, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+
+        query.with(PageCursor.sort(Sort.Direction.DESC)).limit(size + 1);
+        if (after != null) {
+            query.addCriteria(after.after(Sort.Direction.DESC));
+        }
+        List<Post> posts = findResponseFields(query);
+
+        String nextCursor = null;
+        if (posts.size() > size) {
+            posts = posts.subList(0, size);
+            Post last = posts.get(size - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        User currentUser = getUserByEmail(userEmail);
+        return new PostFeedResponse(convertToPostResponses(posts, currentUser), nextCursor);
     }
 
     public PostResponse getPostById(String postId, String userEmail) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("Post not found"));
+        Post post = findResponseFields(postId);
         User currentUser = getUserByEmail(userEmail);
 
-        return convertToPostResponse(post, currentUser);
+        uniqueViewerService.recordView(Post.class, postId, userEmail);
+        PostResponse response = convertToPostResponse(post, currentUser);
+        response.setUniqueViewers(uniqueViewerService.count(Post.class, postId));
+        return response;
     }
 
     public PostResponse createPost(CreatePostRequest request, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = getUserByEmail(userEmail);
 
         Post post = new Post();
         post.setAuthorId(user.getId());
@@ -61,59 +155,70 @@ public class PostService {
         post.setDepartment(user.getDepartment());
         post.setContent(request.getContent());
 
-        // Process media - convert base64 to file URLs
-        List<String> mediaUrls = new ArrayList<>();
-        if (request.getMedia() != null) {
-            for (String mediaItem : request.getMedia()) {
-                if (mediaItem != null && mediaItem.startsWith("data:image/")) {
-                    String imageUrl = fileStorageService.uploadBase64Image(mediaItem).join();
-                    mediaUrls.add(imageUrl);
-                } else {
-                    mediaUrls.add(mediaItem);
-                }
-            }
-        }
+        // Process media - convert base64 to file URLs, uploading all images concurrently
+        List<String> mediaUrls = fileStorageService.uploadPostMedia(request.getMedia());
         post.setMedia(mediaUrls);
 
-        post.setHashtags(request.getHashtags() != null ? request.getHashtags() : new ArrayList<>());
+        post.setHashtags(normalizeHashtags(request.getHashtags()));
         post.setMentions(request.getMentions() != null ? request.getMentions() : new ArrayList<>());
         post.setCreatedAt(LocalDateTime.now());
         post.setLikes(0);
         post.setComments(0);
         post.setShares(0);
-        post.setLikedBy(new ArrayList<>());
-        post.setBookmarkedBy(new ArrayList<>());
         post.setReportedBy(new ArrayList<>());
 
-        Post savedPost = postRepository.save(post);
+        Post savedPost;
+        try {
+            savedPost = postRepository.save(post);
+        } catch (RuntimeException e) {
+            fileStorageService.discardPostMedia(request.getMedia(), mediaUrls);
+            throw e;
+        }
+        postTimelineService.publish(savedPost);
+        trendingService.addHashtags(savedPost.getHashtags(), savedPost.getCreatedAt());
+        trendingService.addPost(savedPost);
         log.info("Created new post by user: {} with {} images", userEmail, mediaUrls.size());
 
         return convertToPostResponse(savedPost, user);
     }
 
+    // Targeted $set of the edited fields; a full save would write back stale like, comment, share and view counters
     public PostResponse updatePost(String postId, UpdatePostRequest request, String userEmail) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("Post not found"));
+        Post post = findResponseFields(postId);
 
         User user = getUserByEmail(userEmail);
         if (!post.getAuthorId().equals(user.getId())) {
             throw new RuntimeException("You can only edit your own posts");
         }
 
+        Update update = new Update();
         if (request.getContent() != null) {
-            post.setContent(request.getContent());
+            update.set("content", request.getContent());
         }
         if (request.getMedia() != null) {
-            post.setMedia(request.getMedia());
+            update.set("media", request.getMedia());
         }
+        List<String> previousHashtags = post.getHashtags() != null ? post.getHashtags() : new ArrayList<>();
         if (request.getHashtags() != null) {
-            post.setHashtags(request.getHashtags());
+            update.set("hashtags", normalizeHashtags(request.getHashtags()));
         }
         if (request.getMentions() != null) {
-            post.setMentions(request.getMentions());
+            update.set("mentions", request.getMentions());
+        }
+        if (!update.getUpdateObject().isEmpty()) {
+            mongoTemplate.updateFirst(new Query(Criteria.where("id").is(postId)), update, Post.class);
         }
 
-        Post updatedPost = postRepository.save(post);
+        Post updatedPost = findResponseFields(postId);
+        if (request.getHashtags() != null) {
+            // Only the difference moves the trending counters
+            List<String> added = new ArrayList<>(updatedPost.getHashtags());
+            added.removeAll(previousHashtags);
+            List<String> removed = new ArrayList<>(previousHashtags);
+            removed.removeAll(updatedPost.getHashtags());
+            trendingService.addHashtags(added, updatedPost.getCreatedAt());
+            trendingService.removeHashtags(removed, updatedPost.getCreatedAt());
+        }
         log.info("Updated post {} by user: {}", postId, userEmail);
 
         return convertToPostResponse(updatedPost, user);
@@ -128,92 +233,151 @@ public class PostService {
             throw new RuntimeException("You can only delete your own posts");
         }
 
-        postRepository.delete(post);
+        // The post disappears now; comments, edges and media are removed in the background
+        postCascadeDeleteService.deletePost(post, userEmail);
+        postTimelineService.remove(postId, post.getDepartment());
+        trendingService.removePost(postId);
+        if (post.getHashtags() != null) {
+            trendingService.removeHashtags(post.getHashtags(), post.getCreatedAt());
+        }
         log.info("Deleted post {} by user: {}", postId, userEmail);
     }
 
     public PostResponse toggleLike(String postId, String userEmail) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("Post not found"));
-
         User user = getUserByEmail(userEmail);
-        List<String> likedBy = post.getLikedBy() != null ? new ArrayList<>(post.getLikedBy()) : new ArrayList<>();
-        int currentLikes = post.getLikes() != null ? post.getLikes() : 0;
-
-        if (likedBy.contains(user.getId())) {
-            likedBy.remove(user.getId());
-            post.setLikes(Math.max(0, currentLikes - 1));
-        } else {
-            likedBy.add(user.getId());
-            post.setLikes(currentLikes + 1);
-        }
-
-        post.setLikedBy(likedBy);
-        Post updatedPost = postRepository.save(post);
+        PostLikeService.LikeResult result = postLikeService.toggleLike(postId, user.getId());
+        trendingService.recordEngagement(result.getPost(),
+                result.isLiked() ? TrendingService.LIKE_POINTS : -TrendingService.LIKE_POINTS);
 
-        return convertToPostResponse(updatedPost, user);
+        PostResponse response = convertToPostResponse(result.getPost(), user);
+        response.setLikes(result.getLikes());
+        return response;
     }
 
+    // Shares are buffered and flushed as a bulk $inc; the response already includes this one
     public PostResponse sharePost(String postId, String userEmail) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("Post not found"));
+        Post post = findResponseFields(postId);
 
-        int currentShares = post.getShares() != null ? post.getShares() : 0;
-        post.setShares(currentShares + 1);
-        Post updatedPost = postRepository.save(post);
+        bufferedCounterService.increment(Post.class, postId, "shares");
+        trendingService.recordEngagement(post, TrendingService.SHARE_POINTS);
 
         User currentUser = getUserByEmail(userEmail);
         log.info("Shared post {} by user: {}", postId, userEmail);
-        return convertToPostResponse(updatedPost, currentUser);
+        return convertToPostResponse(post, currentUser);
     }
 
     public PostResponse toggleBookmark(String postId, String userEmail) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("Post not found"));
+        Post post = findResponseFields(postId);
 
         User user = getUserByEmail(userEmail);
-        List<String> bookmarkedBy = post.getBookmarkedBy() != null ? new ArrayList<>(post.getBookmarkedBy()) : new ArrayList<>();
-
-        if (bookmarkedBy.contains(user.getId())) {
-            bookmarkedBy.remove(user.getId());
-        } else {
-            bookmarkedBy.add(user.getId());
+        try {
+            postBookmarkRepository.insert(new PostBookmark(postId, user.getId()));
+        } catch (DuplicateKeyException e) {
+            // Unique (postId, userId) index says it is already bookmarked - toggle it off
+            postBookmarkRepository.deleteByPostIdAndUserId(postId, user.getId());
         }
 
-        post.setBookmarkedBy(bookmarkedBy);
-        Post updatedPost = postRepository.save(post);
-
-        return convertToPostResponse(updatedPost, user);
+        return convertToPostResponse(post, user);
     }
 
+    // $addToSet guarded by the reporter not being in the list yet, so concurrent reports neither clobber each other nor the counters
     public void reportPost(String postId, String userEmail) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("Post not found"));
-
         User user = getUserByEmail(userEmail);
-        List<String> reportedBy = post.getReportedBy() != null ? new ArrayList<>(post.getReportedBy()) : new ArrayList<>();
-
-        if (reportedBy.contains(user.getId())) {
+        Query query = new Query(Criteria.where("id").is(postId).and("reportedBy").ne(user.getId()));
+        if (mongoTemplate.updateFirst(query, new Update().addToSet("reportedBy", user.getId()), Post.class)
+                .getMatchedCount() == 0) {
+            if (!mongoTemplate.exists(new Query(Criteria.where("id").is(postId)), Post.class)) {
+                throw new RuntimeException("Post not found");
+            }
             throw new RuntimeException("You have already reported this post");
         }
-
-        reportedBy.add(user.getId());
-        post.setReportedBy(reportedBy);
-
-        postRepository.save(post);
         log.info("Reported post {} by user: {}", postId, userEmail);
     }
 
     public List<PostResponse> getPostsByUser(String userEmail) {
         User user = getUserByEmail(userEmail);
-        List<Post> posts = postRepository.findByAuthorIdOrderByCreatedAtDesc(user.getId());
+        List<Post> posts = findResponseFields(new Query(Criteria.where("authorId").is(user.getId()))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        return convertToPostResponses(posts, user);
+    }
+
+    // One findAllById for the whole page, then restore the ranked order
+    private List<Post> hydrate(List<String> ids, Consumer<String> onMissing) {
+        Map<String, Post> postsById = new HashMap<>();
+        for (Post post : findResponseFields(new Query(Criteria.where("id").in(ids)))) {
+            postsById.put(post.getId(), post);
+        }
+
+        List<Post> posts = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Post post = postsById.get(id);
+            if (post != null) {
+                posts.add(post);
+            } else {
+                onMissing.accept(id); // Deleted since it was ranked
+            }
+        }
+        return posts;
+    }
+
+    private List<Post> findResponseFields(Query query) {
+        query.fields().include(RESPONSE_FIELDS);
+        return mongoTemplate.find(query, Post.class);
+    }
+
+    private Post findResponseFields(String postId) {
+        Query query = new Query(Criteria.where("id").is(postId));
+        query.fields().include(RESPONSE_FIELDS);
+        Post post = mongoTemplate.findOne(query, Post.class);
+        if (post == null) {
+            throw new RuntimeException("Post not found");
+        }
+        return post;
+    }
+
+    private Query departmentQuery(String department) {
+        Query query = new Query();
+        if (department != null) {
+            query.addCriteria(Criteria.where("department").is(department));
+        }
+        return query;
+    }
+
+    private PostResponse convertToPostResponse(Post post, User currentUser) {
+        return convertToPostResponses(List.of(post), currentUser).get(0);
+    }
+
+    // Resolves the viewer's like/bookmark edges for the whole page in one query each,
+    // and adds share increments that are still buffered
+    private List<PostResponse> convertToPostResponses(List<Post> posts, User currentUser) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+        Set<String> likedPostIds = postLikeRepository.findByUserIdAndPostIdIn(currentUser.getId(), postIds).stream()
+                .map(PostLike::getPostId)
+                .collect(Collectors.toSet());
+        Set<String> bookmarkedPostIds = postBookmarkRepository.findByUserIdAndPostIdIn(currentUser.getId(), postIds).stream()
+                .map(PostBookmark::getPostId)
+                .collect(Collectors.toSet());
+        Map<String, Long> pendingShares = bufferedCounterService.pending(Post.class, postIds, "shares");
 
         return posts.stream()
-                .map(post -> convertToPostResponse(post, user))
+                .map(post -> {
+                    PostResponse response = convertToPostResponse(post, currentUser,
+                            likedPostIds.contains(post.getId()),
+                            bookmarkedPostIds.contains(post.getId()));
+                    long shares = post.getShares() != null ? post.getShares() : 0;
+                    response.setShares((int) (shares + pendingShares.getOrDefault(post.getId(), 0L)));
+                    return response;
+                })
                 .collect(Collectors.toList());
     }
 
-    private PostResponse convertToPostResponse(Post post, User currentUser) {
+    private PostResponse convertToPostResponse(Post post, User currentUser,
+            boolean isLiked, boolean isBookmarked) {
         PostResponse response = new PostResponse();
         response.setId(post.getId());
         response.setAuthorId(post.getAuthorId());
@@ -225,32 +389,48 @@ public class PostService {
         response.setContent(post.getContent());
         response.setCreatedAt(post.getCreatedAt());
         response.setLikes(post.getLikes());
-        
-        // Ensure comment count is always accurate regardless of concurrency issues
-        Long actualCommentCount = commentRepository.countByPostIdAndIsDeletedFalse(post.getId());
-        response.setComments(actualCommentCount != null ? actualCommentCount.intValue() : 0);
-        
+        response.setComments(post.getComments() != null ? Math.max(0, post.getComments()) : 0);
         response.setShares(post.getShares());
+        response.setUniqueViewers(post.getUniqueViewers());
         response.setMedia(post.getMedia());
         response.setHashtags(post.getHashtags());
         response.setMentions(post.getMentions());
 
-        // Check if current user liked this post
-        boolean isLiked = post.getLikedBy() != null && post.getLikedBy().contains(currentUser.getId());
         response.setIsLiked(isLiked);
 
         // Check if current user is the author
         response.setIsAuthor(post.getAuthorId().equals(currentUser.getId()));
 
-        boolean isBookmarked = post.getBookmarkedBy() != null && post.getBookmarkedBy().contains(currentUser.getId());
         response.setIsBookmarked(isBookmarked);
 
         return response;
     }
 
+    // "#Java " and "java" are the same tag
+    private List<String> normalizeHashtags(List<String> hashtags) {
+        if (hashtags == null) {
+            return new ArrayList<>();
+        }
+        return hashtags.stream()
+                .map(this::normalizeHashtag)
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private String normalizeHashtag(String hashtag) {
+        if (hashtag == null) {
+            return "";
+        }
+        String tag = hashtag.trim();
+        while (tag.startsWith("#")) {
+            tag = tag.substring(1);
+        }
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
     private User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        return currentUserService.getUserByEmail(email);
     }
 
     private String getUserRole(User user) {
@@ -0,0 +1,160 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.entity.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Materialized home timelines (fan-out on write).
+ * Every new post id is pushed into a global and a per-department Redis sorted set scored by createdAt,
+ * trimmed to MAX_LENGTH entries. Reads return null whenever the timeline cannot answer
+ * (Redis down, not yet materialized, or a window past the tail of a trimmed timeline) so callers fall back to Mongo.
+ *
+ * A timeline that has ever dropped posts off its tail carries a ":trimmed" marker, because removals
+ * (deleted posts) can later shrink it below MAX_LENGTH while older posts still only exist in Mongo.
+ * Only the departments in app.timeline.departments get a timeline; others are always served from Mongo.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostTimelineService {
+
+    private static final String GLOBAL_KEY = "timeline:global";
+    private static final String DEPARTMENT_KEY_PREFIX = "timeline:dept:";
+    private static final String READY_SUFFIX = ":ready:v2"; // v2: re-seed once so trimmed timelines get their marker
+    private static final String TRIMMED_SUFFIX = ":trimmed";
+    private static final int MAX_LENGTH = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${app.timeline.departments:CSE,ECE,ME,CE,EEE,ISE}")
+    private Set<String> departments;
+
+    public void publish(Post post) {
+        double score = scoreOf(post.getCreatedAt());
+        for (String key : keysFor(post.getDepartment())) {
+            try {
+                ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+                zSet.add(key, post.getId(), score);
+                trim(key);
+            } catch (Exception e) {
+                log.warn("Timeline publish failed for key {}. Feed will fall back to database. Error: {}",
+                        key, e.getMessage());
+                invalidate(key);
+            }
+        }
+    }
+
+    // A timeline missing a post must not be served as complete; dropping the marker makes the next read rebuild it
+    private void invalidate(String key) {
+        try {
+            stringRedisTemplate.delete(key + READY_SUFFIX);
+        } catch (Exception e) {
+            log.warn("Could not clear ready marker for timeline {}. Error: {}", key, e.getMessage());
+        }
+    }
+
+    public void remove(String postId, String department) {
+        for (String key : keysFor(department)) {
+            try {
+                stringRedisTemplate.opsForZSet().remove(key, postId);
+            } catch (Exception e) {
+                log.warn("Timeline remove failed for key {}. Error: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Post ids for the given window, newest first, or null if the caller should query Mongo instead.
+     */
+    public List<String> readPage(String department, long offset, int count) {
+        if (department != null && !departments.contains(department)) {
+            return null;
+        }
+        String key = department != null ? DEPARTMENT_KEY_PREFIX + department : GLOBAL_KEY;
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key + READY_SUFFIX))) {
+                rebuild(key, department);
+            }
+
+            Long length = stringRedisTemplate.opsForZSet().zCard(key);
+            if (length == null) {
+                return null;
+            }
+            // Anything past the tail of a trimmed timeline only exists in Mongo
+            if (offset + count > length && Boolean.TRUE.equals(stringRedisTemplate.hasKey(key + TRIMMED_SUFFIX))) {
+                return null;
+            }
+
+            Set<String> ids = stringRedisTemplate.opsForZSet().reverseRange(key, offset, offset + count - 1);
+            return ids != null ? new ArrayList<>(ids) : null;
+        } catch (Exception e) {
+            log.warn("Timeline read failed for key {}. Falling back to database. Error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    // Seeds a timeline from the latest posts, e.g. after a Redis restart
+    private void rebuild(String key, String department) {
+        Query query = new Query().with(Sort.by(Sort.Direction.DESC, "createdAt")).limit(MAX_LENGTH);
+        if (department != null) {
+            query.addCriteria(Criteria.where("department").is(department));
+        }
+        query.fields().include("id", "createdAt");
+
+        Set<ZSetOperations.TypedTuple<String>> entries = new HashSet<>();
+        for (Post post : mongoTemplate.find(query, Post.class)) {
+            entries.add(new DefaultTypedTuple<>(post.getId(), scoreOf(post.getCreatedAt())));
+        }
+        if (!entries.isEmpty()) {
+            stringRedisTemplate.opsForZSet().add(key, entries);
+            trim(key);
+        }
+        if (entries.size() >= MAX_LENGTH) {
+            // Mongo may hold older posts than the seeded window
+            stringRedisTemplate.opsForValue().set(key + TRIMMED_SUFFIX, "1");
+        }
+        stringRedisTemplate.opsForValue().set(key + READY_SUFFIX, "1");
+        log.info("Rebuilt timeline {} with {} posts", key, entries.size());
+    }
+
+    private void trim(String key) {
+        Long removed = stringRedisTemplate.opsForZSet().removeRange(key, 0, -(MAX_LENGTH + 1));
+        if (removed != null && removed > 0) {
+            stringRedisTemplate.opsForValue().set(key + TRIMMED_SUFFIX, "1");
+        }
+    }
+
+    private List<String> keysFor(String department) {
+        List<String> keys = new ArrayList<>();
+        keys.add(GLOBAL_KEY);
+        if (department != null && departments.contains(department)) {
+            keys.add(DEPARTMENT_KEY_PREFIX + department);
+        }
+        return keys;
+    }
+
+    private double scoreOf(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return 0;
+        }
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -7,8 +7,6 @@ import com.dsce.AlumniConnect.Repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -27,20 +25,22 @@ import java.util.stream.Stream;
 public class ProfileService {
 
     private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final FileStorageService fileStorageService;
     private final ResumeParserService resumeParserService;
+    private final AuthorProfileSyncService authorProfileSyncService;
+    private final AlumniSearchService alumniSearchService;
 
     // Get current user's profile
     public User getCurrentUserProfile() {
-        String email = getCurrentUserEmail();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        return currentUserService.getCurrentUser();
     }
 
     // Update user profile manually
-    @CacheEvict(value = {"alumni", "allAlumni", "dashboardStats"}, allEntries = true)
+    @CacheEvict(value = {"alumni", "dashboardStats"}, allEntries = true)
     public User updateProfile(ProfileUpdateRequest request) {
         User user = getCurrentUserProfile();
+        String authorBefore = authorSnapshot(user);
 
         // Update basic fields
         if (request.getFirstName() != null) {
@@ -139,13 +139,14 @@ public class ProfileService {
 
         user.setUpdatedAt(LocalDateTime.now());
         markProfileAsCompleteIfReady(user);
-        return userRepository.save(user);
+        return saveAndSyncAuthor(user, authorBefore);
     }
 
     // Update profile picture
-    @CacheEvict(value = {"alumni", "allAlumni"}, allEntries = true)
+    @CacheEvict(value = {"alumni"}, allEntries = true)
     public CompletableFuture<User> updateProfilePicture(MultipartFile profilePicture) {
         User user = getCurrentUserProfile();
+        String authorBefore = authorSnapshot(user);
 
         if (profilePicture == null || profilePicture.isEmpty()) {
             throw new IllegalArgumentException("Profile picture is required");
@@ -159,14 +160,15 @@ public class ProfileService {
                 .thenApply(profilePicturePath -> {
                     user.setProfilePicture(profilePicturePath);
                     user.setUpdatedAt(LocalDateTime.now());
-                    return userRepository.save(user);
+                    return saveAndSyncAuthor(user, authorBefore);
                 });
     }
 
     // Update profile picture without requiring profile completion
-    @CacheEvict(value = {"alumni", "allAlumni"}, allEntries = true)
+    @CacheEvict(value = {"alumni"}, allEntries = true)
     public CompletableFuture<User> updateProfilePictureOnly(MultipartFile profilePicture) {
         User user = getCurrentUserProfile();
+        String authorBefore = authorSnapshot(user);
 
         if (profilePicture == null || profilePicture.isEmpty()) {
             throw new IllegalArgumentException("Profile picture is required");
@@ -180,14 +182,15 @@ public class ProfileService {
                 .thenApply(profilePicturePath -> {
                     user.setProfilePicture(profilePicturePath);
                     user.setUpdatedAt(LocalDateTime.now());
-                    return userRepository.save(user);
+                    return saveAndSyncAuthor(user, authorBefore);
                 });
     }
 
     // Upload and parse resume to update profile
-    @CacheEvict(value = {"alumni", "allAlumni"}, allEntries = true)
+    @CacheEvict(value = {"alumni"}, allEntries = true)
     public CompletableFuture<User> updateProfileFromResume(MultipartFile resume, boolean replaceExisting) {
         User user = getCurrentUserProfile();
+        String authorBefore = authorSnapshot(user);
 
         if (resume == null || resume.isEmpty()) {
             throw new IllegalArgumentException("Resume file is required");
@@ -203,14 +206,15 @@ public class ProfileService {
                     parseAndUpdateProfile(user, resumePath, replaceExisting);
                     user.setUpdatedAt(LocalDateTime.now());
                     markProfileAsCompleteIfReady(user);
-                    return userRepository.save(user);
+                    return saveAndSyncAuthor(user, authorBefore);
                 });
     }
 
     // Parse existing resume and update profile
-    @CacheEvict(value = {"alumni", "allAlumni"}, allEntries = true)
+    @CacheEvict(value = {"alumni"}, allEntries = true)
     public User parseExistingResume(boolean replaceExisting) {
         User user = getCurrentUserProfile();
+        String authorBefore = authorSnapshot(user);
 
         if (user.getResumeUrl() == null || user.getResumeUrl().isEmpty()) {
             throw new IllegalArgumentException("No resume found. Please upload a resume first.");
@@ -221,7 +225,22 @@ public class ProfileService {
 
         user.setUpdatedAt(LocalDateTime.now());
         markProfileAsCompleteIfReady(user);
-        return userRepository.save(user);
+        return saveAndSyncAuthor(user, authorBefore);
+    }
+
+    // Name and avatar as copied onto the user's posts, comments and discussions
+    private String authorSnapshot(User user) {
+        return user.getFirstName() + " " + user.getLastName() + "|" + user.getProfilePicture();
+    }
+
+    // Saves the user, re-indexes them for search and, if the name or avatar changed, queues a refresh of their authored content
+    private User saveAndSyncAuthor(User user, String authorBefore) {
+        User saved = userRepository.save(user);
+        alumniSearchService.index(saved);
+        if (!authorBefore.equals(authorSnapshot(saved))) {
+            authorProfileSyncService.scheduleRefresh(saved.getId());
+        }
+        return saved;
     }
 
     // Helper method to parse resume and update user profile
@@ -470,13 +489,4 @@ public class ProfileService {
 
         user.setProfileComplete(hasEssentialFields);
     }
-
-    // Get current user's email
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("User not authenticated");
-        }
-        return authentication.getName();
-    }
 }
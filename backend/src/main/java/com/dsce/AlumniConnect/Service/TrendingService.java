@@ -0,0 +1,282 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.DTO.TrendingHashtag;
+import com.dsce.AlumniConnect.entity.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time-decayed trending boards kept in Redis sorted sets (forward decay).
+ * Instead of decaying every score over time, each event is added with weight 2^((t - landmark) / halfLife),
+ * so an update is a single ZINCRBY (O(log n)) and ZREVRANGE already returns the decayed order.
+ * Dividing a score by the current weight gives the decayed count.
+ *
+ * Hashtags are weighted by when they were used. Posts are weighted by when they were created, so a post's
+ * score is its engagement points scaled by 2^(-age / halfLife) and older posts sink even while they are liked.
+ *
+ * Weights grow exponentially, so the landmark moves forward every MAX_EXPONENT half-lives (a "generation")
+ * and the first write of a new generation folds the previous board in, scaled down by 2^-MAX_EXPONENT.
+ * Generations are derived from the clock, so every instance agrees on the landmark without coordination.
+ *
+ * Boards keep their top maxSize members. A board that has ever dropped members carries a ":trimmed" marker
+ * (carried into the next generation), so windows past its tail fall back to Mongo even after removals shrink it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    private static final Board HASHTAGS = new Board("hashtags", Duration.ofHours(24), 1000);
+    private static final Board POSTS = new Board("posts", Duration.ofHours(12), 1000);
+
+    // Engagement points of a post
+    public static final int POST_POINTS = 1;
+    public static final int LIKE_POINTS = 1;
+    public static final int COMMENT_POINTS = 2;
+    public static final int SHARE_POINTS = 3;
+
+    private static final String KEY_PREFIX = "trending:";
+    private static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int MAX_EXPONENT = 256;
+    private static final int FALLBACK_DAYS = 7;
+    private static final int REBUILD_LIMIT = 5000;
+    private static final String READY_SUFFIX = ":ready:v2"; // v2: re-seed once so trimmed boards get their marker
+    private static final String TRIMMED_SUFFIX = ":trimmed";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MongoTemplate mongoTemplate;
+
+    // Last generation each board was seen seeded in, to skip the seed check on the hot path
+    private final Map<String, Long> seededGenerations = new ConcurrentHashMap<>();
+
+    // Weighted at the post's creation time, also for tags added by an edit, so removeHashtags cancels it exactly
+    public void addHashtags(Collection<String> hashtags, LocalDateTime postedAt) {
+        long at = postedAt != null ? toMillis(postedAt) : System.currentTimeMillis();
+        for (String tag : hashtags) {
+            adjust(HASHTAGS, tag, 1, at);
+        }
+    }
+
+    // Withdraws the contribution made by addHashtags, e.g. on edit or delete
+    public void removeHashtags(Collection<String> hashtags, LocalDateTime postedAt) {
+        long at = postedAt != null ? toMillis(postedAt) : System.currentTimeMillis();
+        for (String tag : hashtags) {
+            adjust(HASHTAGS, tag, -1, at);
+        }
+    }
+
+    public List<TrendingHashtag> getTrendingHashtags(int limit) {
+        long now = System.currentTimeMillis();
+        try {
+            String key = keyFor(HASHTAGS, now);
+            Set<ZSetOperations.TypedTuple<String>> entries =
+                    stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+            if (entries == null) {
+                return trendingHashtagsFromDatabase(limit);
+            }
+
+            double weight = weightAt(HASHTAGS, now);
+            List<TrendingHashtag> trending = new ArrayList<>(entries.size());
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                double score = entry.getScore() != null ? entry.getScore() / weight : 0;
+                trending.add(new TrendingHashtag(entry.getValue(), Math.round(score * 100) / 100.0));
+            }
+            return trending;
+        } catch (Exception e) {
+            log.warn("Trending read failed for board {}. Falling back to database. Error: {}",
+                    HASHTAGS.name, e.getMessage());
+            return trendingHashtagsFromDatabase(limit);
+        }
+    }
+
+    public void addPost(Post post) {
+        recordEngagement(post, POST_POINTS);
+    }
+
+    // Points may be negative, e.g. -LIKE_POINTS on unlike
+    public void recordEngagement(Post post, int points) {
+        if (post.getCreatedAt() == null) {
+            return;
+        }
+        adjust(POSTS, post.getId(), points, toMillis(post.getCreatedAt()));
+    }
+
+    public void removePost(String postId) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(keyFor(POSTS, System.currentTimeMillis()), postId);
+        } catch (Exception e) {
+            log.warn("Trending remove failed for post {}. Error: {}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * Post ids for the given window, highest score first, or null if the caller should query Mongo instead.
+     */
+    public List<String> getTrendingPostIds(long offset, int count) {
+        try {
+            String key = keyFor(POSTS, System.currentTimeMillis());
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key + READY_SUFFIX))) {
+                rebuildPosts(key);
+            }
+
+            Long length = stringRedisTemplate.opsForZSet().zCard(key);
+            if (length == null) {
+                return null;
+            }
+            // Anything past the tail of a trimmed board only exists in Mongo
+            if (offset + count > length && Boolean.TRUE.equals(stringRedisTemplate.hasKey(key + TRIMMED_SUFFIX))) {
+                return null;
+            }
+
+            Set<String> ids = stringRedisTemplate.opsForZSet().reverseRange(key, offset, offset + count - 1);
+            return ids != null ? new ArrayList<>(ids) : null;
+        } catch (Exception e) {
+            log.warn("Trending read failed for board {}. Falling back to database. Error: {}",
+                    POSTS.name, e.getMessage());
+            return null;
+        }
+    }
+
+    // Seeds the post board from recent posts' stored counters, e.g. after a Redis restart
+    private void rebuildPosts(String key) {
+        Query query = new Query(Criteria.where("createdAt").gte(LocalDateTime.now().minusDays(FALLBACK_DAYS)))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .limit(REBUILD_LIMIT);
+        query.fields().include("id", "createdAt", "likes", "comments", "shares");
+
+        Set<ZSetOperations.TypedTuple<String>> entries = new HashSet<>();
+        for (Post post : mongoTemplate.find(query, Post.class)) {
+            int points = POST_POINTS
+                    + LIKE_POINTS * valueOf(post.getLikes())
+                    + COMMENT_POINTS * valueOf(post.getComments())
+                    + SHARE_POINTS * valueOf(post.getShares());
+            entries.add(new DefaultTypedTuple<>(post.getId(), points * weightAt(POSTS, toMillis(post.getCreatedAt()))));
+        }
+        if (!entries.isEmpty()) {
+            stringRedisTemplate.opsForZSet().add(key, entries);
+            trim(POSTS, key);
+        }
+        stringRedisTemplate.opsForValue().set(key + READY_SUFFIX, "1", Duration.ofMillis(POSTS.generationMillis() * 2));
+        log.info("Rebuilt trending board {} with {} posts", key, entries.size());
+    }
+
+    private int valueOf(Integer counter) {
+        return counter != null ? Math.max(0, counter) : 0;
+    }
+
+    private void adjust(Board board, String member, double delta, long atMillis) {
+        long now = System.currentTimeMillis();
+        try {
+            String key = keyFor(board, now);
+            ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+            Double score = zSet.incrementScore(key, member, delta * weightAt(board, atMillis));
+            if (score != null && score <= 0) {
+                zSet.remove(key, member);
+            } else {
+                trim(board, key);
+            }
+        } catch (Exception e) {
+            log.warn("Trending update failed for board {}. Error: {}", board.name, e.getMessage());
+        }
+    }
+
+    private void trim(Board board, String key) {
+        Long removed = stringRedisTemplate.opsForZSet().removeRange(key, 0, -(board.maxSize + 1));
+        if (removed != null && removed > 0) {
+            markTrimmed(board, key);
+        }
+    }
+
+    private void markTrimmed(Board board, String key) {
+        stringRedisTemplate.opsForValue().set(key + TRIMMED_SUFFIX, "1", Duration.ofMillis(board.generationMillis() * 2));
+    }
+
+    // Board key of the generation containing now, seeding it from the previous generation on first use
+    private String keyFor(Board board, long now) {
+        long generation = generationOf(board, now);
+        String key = KEY_PREFIX + board.name + ":" + generation;
+
+        Long seeded = seededGenerations.get(board.name);
+        if (seeded == null || seeded != generation) {
+            Boolean first = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(key + ":seeded", "1", Duration.ofMillis(board.generationMillis() * 2));
+            if (Boolean.TRUE.equals(first) && generation > 0) {
+                String previous = KEY_PREFIX + board.name + ":" + (generation - 1);
+                // Include the new key itself so increments that raced the seed are kept
+                stringRedisTemplate.opsForZSet().unionAndStore(previous, List.of(key), key,
+                        Aggregate.SUM, Weights.of(Math.pow(2, -MAX_EXPONENT), 1));
+                stringRedisTemplate.expire(previous, 1, TimeUnit.DAYS);
+                if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(previous + TRIMMED_SUFFIX))) {
+                    markTrimmed(board, key);
+                }
+                log.info("Rolled trending board {} into generation {}", board.name, generation);
+            }
+            seededGenerations.put(board.name, generation);
+        }
+        return key;
+    }
+
+    private long generationOf(Board board, long millis) {
+        return Math.max(0, (millis - EPOCH_MILLIS) / board.generationMillis());
+    }
+
+    private double weightAt(Board board, long millis) {
+        long landmark = EPOCH_MILLIS + generationOf(board, System.currentTimeMillis()) * board.generationMillis();
+        return Math.pow(2, (double) (millis - landmark) / board.halfLife.toMillis());
+    }
+
+    // Plain count of the last few days, only used while Redis is unavailable
+    private List<TrendingHashtag> trendingHashtagsFromDatabase(int limit) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("createdAt").gte(LocalDateTime.now().minusDays(FALLBACK_DAYS))),
+                Aggregation.unwind("hashtags"),
+                Aggregation.group("hashtags").count().as("score"),
+                Aggregation.sort(Sort.Direction.DESC, "score"),
+                Aggregation.limit(limit),
+                Aggregation.project("score").and("_id").as("tag"));
+        return mongoTemplate.aggregate(aggregation, "posts", TrendingHashtag.class).getMappedResults();
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static final class Board {
+        private final String name;
+        private final Duration halfLife;
+        private final int maxSize;
+
+        private Board(String name, Duration halfLife, int maxSize) {
+            this.name = name;
+            this.halfLife = halfLife;
+            this.maxSize = maxSize;
+        }
+
+        private long generationMillis() {
+            return halfLife.toMillis() * MAX_EXPONENT;
+        }
+    }
+}
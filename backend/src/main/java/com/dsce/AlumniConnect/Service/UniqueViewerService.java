@@ -0,0 +1,125 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.entity.DiscussionTopic;
+import com.dsce.AlumniConnect.entity.Event;
+import com.dsce.AlumniConnect.entity.Post;
+import com.dsce.AlumniConnect.util.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unique-viewer counts per entity with HyperLogLog: constant memory per entity (at most 12 KB in Redis)
+ * and about 1% error, however many times the same user reloads the page.
+ *
+ * A view is a PFADD plus an SADD of the entity id to a per-collection dirty set; nothing touches Mongo.
+ * Every minute the dirty ids are popped, PFCOUNTed and written to the entity's count field in one bulk.
+ * While Redis is unavailable views go to an in-process HyperLogLog; Redis hashes and lays out its
+ * registers differently, so the two sketches cannot be merged and the persisted count is the larger of both estimates. Counts are written with $max so a
+ * restart that loses the in-process sketch never lowers a stored count.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UniqueViewerService {
+
+    // Field each entity's unique viewer count is persisted to
+    private static final Map<Class<?>, String> COUNT_FIELDS = Map.of(
+            Event.class, "uniqueViewers",
+            Post.class, "uniqueViewers",
+            DiscussionTopic.class, "uniqueViewers");
+
+    private static final String KEY_PREFIX = "views:unique:";
+    private static final String DIRTY_PREFIX = "views:unique:dirty:";
+    private static final int PERSIST_BATCH = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MongoTemplate mongoTemplate;
+
+    private final Map<String, HyperLogLog> localSketches = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Set<String>> localDirty = new ConcurrentHashMap<>();
+
+    public void recordView(Class<?> entityClass, String id, String viewerId) {
+        if (id == null || viewerId == null) {
+            return;
+        }
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        try {
+            stringRedisTemplate.opsForHyperLogLog().add(KEY_PREFIX + collection + ":" + id, viewerId);
+            stringRedisTemplate.opsForSet().add(DIRTY_PREFIX + collection, id);
+        } catch (Exception e) {
+            log.warn("Unique view record failed in Redis, counting in-process. Error: {}", e.getMessage());
+            localSketches.computeIfAbsent(collection + ":" + id, k -> new HyperLogLog()).add(viewerId);
+            localDirty.computeIfAbsent(entityClass, c -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public long count(Class<?> entityClass, String id) {
+        String key = mongoTemplate.getCollectionName(entityClass) + ":" + id;
+        long count = 0;
+        try {
+            Long redisCount = stringRedisTemplate.opsForHyperLogLog().size(KEY_PREFIX + key);
+            count = redisCount != null ? redisCount : 0;
+        } catch (Exception e) {
+            log.warn("Unique view count failed in Redis. Error: {}", e.getMessage());
+        }
+        HyperLogLog local = localSketches.get(key);
+        return local != null ? Math.max(count, local.count()) : count;
+    }
+
+    @Scheduled(fixedDelayString = "${app.unique-views.persist-interval-ms:60000}")
+    public void persistCounts() {
+        for (Class<?> entityClass : COUNT_FIELDS.keySet()) {
+            try {
+                persistCounts(entityClass);
+            } catch (Exception e) {
+                log.warn("Persisting unique views for {} failed. Error: {}", entityClass.getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private void persistCounts(Class<?> entityClass) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        Set<String> ids = new HashSet<>();
+
+        Set<String> local = localDirty.get(entityClass);
+        if (local != null) {
+            for (String id : List.copyOf(local)) {
+                local.remove(id);
+                ids.add(id);
+            }
+        }
+        try {
+            List<String> popped = stringRedisTemplate.opsForSet().pop(DIRTY_PREFIX + collection, PERSIST_BATCH);
+            if (popped != null) {
+                ids.addAll(popped);
+            }
+        } catch (Exception e) {
+            log.warn("Reading dirty unique view ids for {} failed. Error: {}", collection, e.getMessage());
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        String field = COUNT_FIELDS.get(entityClass);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass);
+        for (String id : ids) {
+            bulk.updateOne(new Query(Criteria.where("id").is(id)), new Update().max(field, count(entityClass, id)));
+        }
+        bulk.execute();
+        log.debug("Persisted unique viewer counts for {} {}", ids.size(), collection);
+    }
+}
@@ -0,0 +1,52 @@
+package com.dsce.AlumniConnect.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // Bounded pool for Cloudinary uploads so a burst of image posts cannot exhaust the common pool.
+    // When the queue is full new uploads are rejected, failing the post fast instead of tying up the request thread.
+    @Bean(name = "mediaUploadExecutor")
+    public ThreadPoolTaskExecutor mediaUploadExecutor(
+            @Value("${app.media-upload.threads:8}") int threads,
+            @Value("${app.media-upload.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("media-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // Background cascade deletes. Rejected tasks are not lost: the job stays PENDING and the sweep resumes it.
+    @Bean(name = "cascadeDeleteExecutor")
+    public ThreadPoolTaskExecutor cascadeDeleteExecutor(
+            @Value("${app.post-deletion.threads:2}") int threads,
+            @Value("${app.post-deletion.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-cascade-");
+        return executor;
+    }
+
+    // Scheduled jobs (counter flushes, cleanup sweeps, author refreshes) must not queue behind each other
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${app.scheduling.threads:4}") int threads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(threads);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        return scheduler;
+    }
+}
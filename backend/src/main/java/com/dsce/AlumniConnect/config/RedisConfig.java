@@ -86,7 +86,6 @@ public class RedisConfig implements CachingConfigurer {
 
         // Long-lived data: 24 hours TTL
         cacheConfigurations.put("alumni", defaultConfig.entryTtl(Duration.ofHours(24)));
-        cacheConfigurations.put("allAlumni", defaultConfig.entryTtl(Duration.ofHours(24)));
         cacheConfigurations.put("fundings", defaultConfig.entryTtl(Duration.ofHours(24)));
 
         return RedisCacheManager.builder(connectionFactory)
@@ -52,6 +52,8 @@ public class SpringSecurity {
                         .requestMatchers("/api/profile/resume").permitAll()
                         .requestMatchers("/api/dashboard/announcements").permitAll()
                         .requestMatchers("/api/events/featured", "/events/featured").permitAll()
+                        .requestMatchers("/api/events/featured.ics", "/events/featured.ics").permitAll()
+                        .requestMatchers("/api/events/calendar.ics", "/events/calendar.ics").permitAll() // HMAC token checked by the controller
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/chat.html").permitAll()
                         .requestMatchers("/uploads/**").permitAll()
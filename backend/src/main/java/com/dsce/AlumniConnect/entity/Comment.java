@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -14,6 +16,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Document(collection = "comments")
+@CompoundIndexes({
+    @CompoundIndex(name = "postId_isDeleted_createdAt_id_idx", def = "{'postId': 1, 'isDeleted': 1, 'createdAt': 1, '_id': 1}"), // Flat comment pages
+    @CompoundIndex(name = "postId_parentId_isDeleted_createdAt_id_idx", def = "{'postId': 1, 'parentId': 1, 'isDeleted': 1, 'createdAt': 1, '_id': 1}"), // Root comments
+    @CompoundIndex(name = "ancestors_isDeleted_createdAt_id_idx", def = "{'ancestors': 1, 'isDeleted': 1, 'createdAt': 1, '_id': 1}") // Replies in a subtree (multikey)
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,6 +36,14 @@ public class Comment {
     // Post ID - indexed for fast queries on comments per post
     @Indexed
     private String postId;
+
+    // Reply threads: null for a root comment
+    private String parentId;
+
+    // Ids from the root down to the parent, so a subtree is one indexed query at any depth
+    private List<String> ancestors;
+
+    private Integer depth = 0;
     
     // Author reference - new DBRef pattern
     @DBRef(lazy = true)
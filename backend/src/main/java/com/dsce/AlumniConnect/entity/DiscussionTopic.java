@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -33,6 +34,7 @@ public class DiscussionTopic {
     private String content;
     
     @NotBlank(message = "Author ID is required")
+    @Indexed
     private String authorId;
     
     private String authorName;
@@ -45,7 +47,10 @@ public class DiscussionTopic {
     
     private LocalDateTime updatedAt;
     
+    // Raw hit count from before unique viewers were tracked; no longer updated
     private Integer viewCount = 0;
+
+    private Long uniqueViewers = 0L;
     
     private Integer replyCount = 0;
     
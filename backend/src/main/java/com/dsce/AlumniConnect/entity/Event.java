@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.IndexDirection;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -12,6 +14,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Document(collection = "events")
+@CompoundIndexes({
+    @CompoundIndex(name = "featured_startAt_idx", def = "{'featured': 1, 'startAt': 1}"),
+    @CompoundIndex(name = "startAt_id_idx", def = "{'startAt': 1, '_id': 1}"),
+    @CompoundIndex(name = "category_startAt_id_idx", def = "{'category': 1, 'startAt': 1, '_id': 1}")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,6 +34,7 @@ public class Event {
     private String description;
     private String category;
     private Integer maxParticipants;
+    private Integer registeredCount = 0; // GOING RSVPs, maintained atomically by EventRsvpService
     private String registrationDeadline;
     private String virtualLink;
     private String organizerName;
@@ -35,14 +43,16 @@ public class Event {
     private String createDate;
     private String updateDate;
     @Indexed(direction = IndexDirection.DESCENDING)
-    private LocalDateTime eventDate;
-    @Indexed
+    private LocalDateTime eventDate; // When the event was created
+    private LocalDateTime startAt; // Normalized from day/month/starttime (see EventSchedule)
+    private LocalDateTime endAt;
     private boolean featured = false; // Admin can feature events
     private String imageUrl; // Poster image for the event
     
     // Engagement metrics
     private Integer likes = 0;
     private Integer views = 0;
+    private Long uniqueViewers = 0L; // HyperLogLog estimate, persisted by UniqueViewerService
     private Integer comments = 0;
 
     // Child collection - RSVPs for this event
@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 @CompoundIndexes({
     @CompoundIndex(name = "userId_status_idx", def = "{'userId': 1, 'status': 1}"),
     @CompoundIndex(name = "eventId_status_idx", def = "{'eventId': 1, 'status': 1}"),
+    @CompoundIndex(name = "eventId_status_respondedAt_idx", def = "{'eventId': 1, 'status': 1, 'respondedAt': 1, '_id': 1}"),
     @CompoundIndex(name = "userId_eventId_idx", def = "{'userId': 1, 'eventId': 1}", unique = true)
 })
 @Data
@@ -47,6 +48,7 @@ public class EventRSVP {
     public enum RsvpStatus {
         GOING,
         MAYBE,
-        NOT_GOING
+        NOT_GOING,
+        WAITLISTED // Event was full; promoted to GOING in respondedAt order as seats free up
     }
 }
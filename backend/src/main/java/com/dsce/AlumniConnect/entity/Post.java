@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.IndexDirection;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
@@ -15,6 +17,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Document(collection = "posts")
+@CompoundIndexes({
+    @CompoundIndex(name = "createdAt_id_idx", def = "{'createdAt': -1, '_id': -1}"), // Keyset feed pagination
+    @CompoundIndex(name = "department_createdAt_idx", def = "{'department': 1, 'createdAt': -1}"), // Department feed
+    @CompoundIndex(name = "hashtags_createdAt_id_idx", def = "{'hashtags': 1, 'createdAt': -1, '_id': -1}") // Hashtag feed (multikey)
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -54,17 +61,17 @@ public class Post {
 
     private Integer shares = 0;
 
+    private Long uniqueViewers = 0L; // HyperLogLog estimate, persisted by UniqueViewerService
+
     private List<String> media; // Base64 encoded images
 
     @Size(max = 10, message = "Maximum 10 hashtags allowed")
-    private List<String> hashtags;
+    private List<String> hashtags; // Normalized: lower case, without the leading '#'
 
     @Size(max = 10, message = "Maximum 10 mentions allowed")
     private List<String> mentions;
 
-    private List<String> likedBy; // User IDs who liked this post
-
-    private List<String> bookmarkedBy; // User IDs who bookmarked this post
+    // Likes and bookmarks live in the post_likes / post_bookmarks edge collections
 
     private List<String> reportedBy; // User IDs who reported this post
 
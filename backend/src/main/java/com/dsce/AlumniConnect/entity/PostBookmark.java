@@ -0,0 +1,37 @@
+package com.dsce.AlumniConnect.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Edge between a user and a post they bookmarked. One document per (post, user) pair,
+ * enforced by the unique index so concurrent toggles cannot create duplicates.
+ */
+@Document(collection = "post_bookmarks")
+@CompoundIndex(name = "postId_userId_idx", def = "{'postId': 1, 'userId': 1}", unique = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostBookmark {
+
+    @Id
+    private String id;
+
+    private String postId;
+
+    private String userId;
+
+    private LocalDateTime createdAt;
+
+    public PostBookmark(String postId, String userId) {
+        this.postId = postId;
+        this.userId = userId;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,63 @@
+package com.dsce.AlumniConnect.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cascade delete of one post, processed in batches by PostCascadeDeleteService.
+ * The id is the post id, so deleting the same post twice reuses the job.
+ * Counters double as progress report and resume point; updatedAt is the worker's heartbeat.
+ */
+@Document(collection = "post_deletion_jobs")
+@CompoundIndex(name = "status_updatedAt_idx", def = "{'status': 1, 'updatedAt': 1}")
+@Data
+@NoArgsConstructor
+public class PostDeletionJob {
+
+    @Id
+    private String postId;
+
+    private String requestedBy;
+
+    private List<String> media = new ArrayList<>();
+
+    private Status status;
+
+    private long commentsDeleted;
+
+    private long likesDeleted;
+
+    private long bookmarksDeleted;
+
+    private int mediaDeleted; // Index of the next media item to delete
+
+    private int attempts;
+
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    public PostDeletionJob(Post post, String requestedBy) {
+        this.postId = post.getId();
+        this.requestedBy = requestedBy;
+        this.media = post.getMedia() != null ? new ArrayList<>(post.getMedia()) : new ArrayList<>();
+        this.status = Status.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+}
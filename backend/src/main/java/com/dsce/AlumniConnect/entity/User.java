@@ -4,6 +4,8 @@ import org.springframework.data.annotation.Id;
 
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -15,6 +17,13 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "users")
+// Alumni directory filters; case-insensitive collation matching AlumniService.DIRECTORY_COLLATION
+@CompoundIndexes({
+    @CompoundIndex(name = "directory_year_idx", def = "{'graduationYear': -1, '_id': -1}", collation = "{'locale': 'en', 'strength': 2}"),
+    @CompoundIndex(name = "directory_department_idx", def = "{'department': 1, 'graduationYear': -1, '_id': -1}", collation = "{'locale': 'en', 'strength': 2}"),
+    @CompoundIndex(name = "directory_company_idx", def = "{'workExperiences.company': 1, 'graduationYear': -1, '_id': -1}", collation = "{'locale': 'en', 'strength': 2}"),
+    @CompoundIndex(name = "directory_skill_idx", def = "{'skills': 1, 'graduationYear': -1, '_id': -1}", collation = "{'locale': 'en', 'strength': 2}")
+})
 public class User {
     @Id
     private String id;
@@ -60,6 +69,8 @@ public class User {
     // ponytail: store reset token on user — no separate collection needed
     private String passwordResetToken;
     private LocalDateTime passwordResetExpiry;
+    // Part of every calendar feed token; bumping it revokes the user's earlier tokens
+    private Integer calendarTokenVersion = 0;
 
     // Parent relationships - track orphan cleanup
     private List<String> postIds; // References to User's posts for cascade delete
@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
@@ -37,6 +38,17 @@ public class MongoDbMigrationRunner implements ApplicationRunner {
         // Define all migrations
         List<Migration> migrations = new ArrayList<>();
         migrations.add(new Migration("V1_Initial_Schema", new V1_InitialSchema(mongoTemplate)));
+        migrations.add(new Migration("V2_Feed_Keyset_Index", new V2_FeedKeysetIndex(mongoTemplate)));
+        migrations.add(new Migration("V3_Post_Engagement_Edges", new V3_PostEngagementEdges(mongoTemplate)));
+        migrations.add(new Migration("V4_Department_Feed_Index", new V4_DepartmentFeedIndex(mongoTemplate)));
+        migrations.add(new Migration("V5_Hashtag_Index", new V5_HashtagIndex(mongoTemplate)));
+        migrations.add(new Migration("V6_Post_Deletion_Jobs", new V6_PostDeletionJobs(mongoTemplate)));
+        migrations.add(new Migration("V7_Discussion_Author_Indexes", new V7_DiscussionAuthorIndexes(mongoTemplate)));
+        migrations.add(new Migration("V8_Comment_Thread_Index", new V8_CommentThreadIndex(mongoTemplate)));
+        migrations.add(new Migration("V9_Comment_Reply_Indexes", new V9_CommentReplyIndexes(mongoTemplate)));
+        migrations.add(new Migration("V10_Event_Schedule", new V10_EventSchedule(mongoTemplate)));
+        migrations.add(new Migration("V11_Event_Seat_Counter", new V11_EventSeatCounter(mongoTemplate)));
+        migrations.add(new Migration("V12_Alumni_Directory_Indexes", new V12_AlumniDirectoryIndexes(mongoTemplate)));
         
         // Run each migration once
         for (Migration migration : migrations) {
@@ -66,13 +78,11 @@ public class MongoDbMigrationRunner implements ApplicationRunner {
     }
 
     private boolean isMigrationApplied(String version) {
-        SchemaMigration result = mongoTemplate.findOne(
-            new Query(),
+        return mongoTemplate.exists(
+            new Query(Criteria.where("version").is(version)),
             SchemaMigration.class,
             MIGRATIONS_COLLECTION
         );
-        
-        return result != null && version.equals(result.getVersion());
     }
 
     private void recordMigration(String version) {
@@ -0,0 +1,96 @@
+package com.dsce.AlumniConnect.migration;
+
+import com.dsce.AlumniConnect.util.EventSchedule;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * V10 Event Schedule Migration
+ * Backfills startAt/endAt on existing events from day/month/starttime/endtime and adds the
+ * (featured, startAt), (startAt, _id) and (category, startAt, _id) indexes behind the featured and range queries
+ */
+@Slf4j
+public class V10_EventSchedule implements MongoDbMigrationRunner.MigrationScript {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    public V10_EventSchedule(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        log.info("Executing V10_EventSchedule migration");
+
+        Query missing = new Query(Criteria.where("startAt").exists(false));
+        missing.fields().include("day", "month", "starttime", "endtime", "registrationDeadline", "eventDate");
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "events");
+        int pending = 0;
+        int updated = 0;
+        int skipped = 0;
+        for (Document event : mongoTemplate.find(missing, Document.class, "events")) {
+            LocalDate deadline = EventSchedule.parseDate(event.getString("registrationDeadline"));
+            LocalDateTime startAt = EventSchedule.startOf(event.getString("day"), event.getString("month"),
+                    event.getString("starttime"), deadline != null ? deadline : createdOn(event));
+            if (startAt == null) {
+                skipped++;
+                continue;
+            }
+            LocalDateTime endAt = EventSchedule.endOf(startAt, event.getString("starttime"), event.getString("endtime"));
+            bulk.updateOne(new Query(Criteria.where("_id").is(event.get("_id"))),
+                    new Update().set("startAt", startAt).set("endAt", endAt));
+            updated++;
+            if (++pending == BATCH_SIZE) {
+                bulk.execute();
+                bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "events");
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            bulk.execute();
+        }
+        log.info("Backfilled startAt/endAt on {} events, {} without a readable date", updated, skipped);
+
+        mongoTemplate.indexOps("events")
+            .ensureIndex(new Index()
+                .on("featured", Sort.Direction.ASC)
+                .on("startAt", Sort.Direction.ASC)
+                .named("featured_startAt_idx"));
+        mongoTemplate.indexOps("events")
+            .ensureIndex(new Index()
+                .on("startAt", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("startAt_id_idx"));
+        mongoTemplate.indexOps("events")
+            .ensureIndex(new Index()
+                .on("category", Sort.Direction.ASC)
+                .on("startAt", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("category_startAt_id_idx"));
+
+        log.info("V10_EventSchedule migration completed");
+    }
+
+    // eventDate held the creation time; fall back to today if it is missing
+    private LocalDate createdOn(Document event) {
+        Date eventDate = event.getDate("eventDate");
+        return eventDate != null
+                ? eventDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate()
+                : LocalDate.now();
+    }
+}
@@ -0,0 +1,114 @@
+package com.dsce.AlumniConnect.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * V11 Event Seat Counter Migration
+ * Removes duplicate (userId, eventId) RSVPs and creates the unique index seat accounting relies on,
+ * backfills events.registeredCount from the GOING RSVPs (zero where there are none) and adds the
+ * (eventId, status, respondedAt, _id) index the waitlist is promoted in
+ */
+@Slf4j
+public class V11_EventSeatCounter implements MongoDbMigrationRunner.MigrationScript {
+
+    private final MongoTemplate mongoTemplate;
+
+    public V11_EventSeatCounter(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        log.info("Executing V11_EventSeatCounter migration");
+
+        // A duplicate join must hit DuplicateKeyException, or concurrent requests claim two seats
+        long removed = removeDuplicateRsvps();
+        mongoTemplate.indexOps("event_rsvps")
+            .ensureIndex(new Index()
+                .on("userId", Sort.Direction.ASC)
+                .on("eventId", Sort.Direction.ASC)
+                .unique()
+                .named("userId_eventId_idx"));
+        log.info("Removed {} duplicate RSVPs", removed);
+
+        // Each event goes straight to its final count, so readers never see a transient zero
+        Aggregation going = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("status").is("GOING")),
+                Aggregation.group("eventId").count().as("count"));
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "events");
+        List<Object> counted = new ArrayList<>();
+        for (Document count : mongoTemplate.aggregate(going, "event_rsvps", Document.class)) {
+            // RSVPs hold the event id as a string, events are keyed by ObjectId
+            String eventId = count.getString("_id");
+            Object id = eventId != null && ObjectId.isValid(eventId) ? new ObjectId(eventId) : eventId;
+            bulk.updateOne(new Query(Criteria.where("_id").is(id)),
+                    new Update().set("registeredCount", count.getInteger("count")));
+            counted.add(id);
+        }
+        if (!counted.isEmpty()) {
+            bulk.execute();
+        }
+        mongoTemplate.updateMulti(new Query(Criteria.where("_id").nin(counted)),
+                new Update().set("registeredCount", 0), "events");
+        log.info("Backfilled registeredCount on {} events with RSVPs", counted.size());
+
+        mongoTemplate.indexOps("event_rsvps")
+            .ensureIndex(new Index()
+                .on("eventId", Sort.Direction.ASC)
+                .on("status", Sort.Direction.ASC)
+                .on("respondedAt", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("eventId_status_respondedAt_idx"));
+
+        log.info("V11_EventSeatCounter migration completed");
+    }
+
+    // Keeps one RSVP per (userId, eventId): the earliest GOING one, otherwise the latest response
+    private long removeDuplicateRsvps() {
+        Aggregation duplicates = Aggregation.newAggregation(
+                Aggregation.group("userId", "eventId")
+                        .count().as("count")
+                        .push(new Document("id", "$_id").append("status", "$status").append("respondedAt", "$respondedAt"))
+                        .as("rsvps"),
+                Aggregation.match(Criteria.where("count").gt(1)))
+                .withOptions(Aggregation.newAggregationOptions().allowDiskUse(true).build());
+
+        List<Object> extra = new ArrayList<>();
+        for (Document group : mongoTemplate.aggregate(duplicates, "event_rsvps", Document.class)) {
+            List<Document> rsvps = new ArrayList<>(group.getList("rsvps", Document.class));
+            rsvps.sort(Comparator
+                    .comparing((Document rsvp) -> !"GOING".equals(rsvp.getString("status")))
+                    .thenComparing(rsvp -> respondedAt(rsvp, "GOING".equals(rsvp.getString("status"))),
+                            Comparator.nullsLast(Comparator.naturalOrder())));
+            rsvps.subList(1, rsvps.size()).forEach(rsvp -> extra.add(rsvp.get("id")));
+        }
+        if (!extra.isEmpty()) {
+            mongoTemplate.remove(new Query(Criteria.where("_id").in(extra)), "event_rsvps");
+        }
+        return extra.size();
+    }
+
+    // Ascending sort key: earliest first for GOING, latest first otherwise
+    private Long respondedAt(Document rsvp, boolean going) {
+        Date respondedAt = rsvp.getDate("respondedAt");
+        if (respondedAt == null) {
+            return null;
+        }
+        return going ? respondedAt.getTime() : -respondedAt.getTime();
+    }
+}
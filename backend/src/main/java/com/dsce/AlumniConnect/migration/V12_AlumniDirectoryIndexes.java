@@ -0,0 +1,50 @@
+package com.dsce.AlumniConnect.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Collation;
+
+/**
+ * V12 Alumni Directory Indexes Migration
+ * Adds the (filter, graduationYear, _id) indexes behind the paged alumni directory, with the
+ * case-insensitive collation its queries use
+ */
+@Slf4j
+public class V12_AlumniDirectoryIndexes implements MongoDbMigrationRunner.MigrationScript {
+
+    private final MongoTemplate mongoTemplate;
+
+    public V12_AlumniDirectoryIndexes(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        log.info("Executing V12_AlumniDirectoryIndexes migration");
+
+        Collation caseInsensitive = Collation.of("en").strength(Collation.ComparisonLevel.secondary());
+        mongoTemplate.indexOps("users")
+            .ensureIndex(new Index()
+                .on("graduationYear", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .collation(caseInsensitive)
+                .named("directory_year_idx"));
+        ensureFilterIndex("department", "directory_department_idx", caseInsensitive);
+        ensureFilterIndex("workExperiences.company", "directory_company_idx", caseInsensitive);
+        ensureFilterIndex("skills", "directory_skill_idx", caseInsensitive);
+
+        log.info("V12_AlumniDirectoryIndexes migration completed");
+    }
+
+    private void ensureFilterIndex(String field, String name, Collation collation) {
+        mongoTemplate.indexOps("users")
+            .ensureIndex(new Index()
+                .on(field, Sort.Direction.ASC)
+                .on("graduationYear", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .collation(collation)
+                .named(name));
+    }
+}
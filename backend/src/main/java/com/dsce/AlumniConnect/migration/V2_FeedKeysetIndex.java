@@ -0,0 +1,34 @@
+package com.dsce.AlumniConnect.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * V2 Feed Keyset Index Migration
+ * Adds the (createdAt, _id) index used by cursor pagination of the post feed
+ */
+@Slf4j
+public class V2_FeedKeysetIndex implements MongoDbMigrationRunner.MigrationScript {
+
+    private final MongoTemplate mongoTemplate;
+
+    public V2_FeedKeysetIndex(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        log.info("Executing V2_FeedKeysetIndex migration");
+
+        // _id breaks ties between posts created in the same millisecond so cursors never skip or repeat
+        mongoTemplate.indexOps("posts")
+            .ensureIndex(new Index()
+                .on("createdAt", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named("createdAt_id_idx"));
+
+        log.info("V2_FeedKeysetIndex migration completed");
+    }
+}
@@ -0,0 +1,94 @@
+package com.dsce.AlumniConnect.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * V3 Post Engagement Edges Migration
+ * Moves the embedded posts.likedBy / posts.bookmarkedBy arrays into the
+ * post_likes / post_bookmarks edge collections and then drops the arrays.
+ * Upserts keyed on (postId, userId) make it safe to re-run after a partial failure.
+ */
+@Slf4j
+public class V3_PostEngagementEdges implements MongoDbMigrationRunner.MigrationScript {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    public V3_PostEngagementEdges(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        log.info("Executing V3_PostEngagementEdges migration");
+
+        ensureEdgeIndexes("post_likes");
+        ensureEdgeIndexes("post_bookmarks");
+
+        long likes = backfill("likedBy", "post_likes");
+        long bookmarks = backfill("bookmarkedBy", "post_bookmarks");
+
+        // Only drop the arrays once every edge has been written
+        mongoTemplate.updateMulti(new Query(), new Update().unset("likedBy").unset("bookmarkedBy"), "posts");
+
+        log.info("V3_PostEngagementEdges migration completed - {} likes, {} bookmarks backfilled", likes, bookmarks);
+    }
+
+    private void ensureEdgeIndexes(String collection) {
+        mongoTemplate.indexOps(collection)
+            .ensureIndex(new Index()
+                .on("postId", Sort.Direction.ASC)
+                .on("userId", Sort.Direction.ASC)
+                .unique()
+                .named("postId_userId_idx"));
+    }
+
+    private long backfill(String arrayField, String edgeCollection) {
+        Query query = new Query(Criteria.where(arrayField + ".0").exists(true));
+        query.fields().include(arrayField);
+
+        long written = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, edgeCollection);
+        int pending = 0;
+
+        try (Stream<Document> posts = mongoTemplate.stream(query, Document.class, "posts")) {
+            for (Document post : (Iterable<Document>) posts::iterator) {
+                String postId = String.valueOf(post.get("_id"));
+                List<String> userIds = post.getList(arrayField, String.class);
+                for (String userId : userIds) {
+                    if (userId == null) {
+                        continue;
+                    }
+                    bulk.upsert(
+                        new Query(Criteria.where("postId").is(postId).and("userId").is(userId)),
+                        new Update().setOnInsert("createdAt", LocalDateTime.now()));
+                    if (++pending == BATCH_SIZE) {
+                        bulk.execute();
+                        written += pending;
+                        bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, edgeCollection);
+                        pending = 0;
+                    }
+                }
+            }
+        }
+        if (pending > 0) {
+            bulk.execute();
+            written += pending;
+        }
+        log.debug("Backfilled {} {} edges", written, edgeCollection);
+        return written;
+    }
+}
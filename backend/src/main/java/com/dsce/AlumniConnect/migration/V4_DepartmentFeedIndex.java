@@ -0,0 +1,33 @@
+package com.dsce.AlumniConnect.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * V4 Department Feed Index Migration
+ * Indexes posts by (department, createdAt) for the per-department feed when the Redis timeline is unavailable
+ */
+@Slf4j
+public class V4_DepartmentFeedIndex implements MongoDbMigrationRunner.MigrationScript {
+
+    private final MongoTemplate mongoTemplate;
+
+    public V4_DepartmentFeedIndex(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        log.info("Executing V4_DepartmentFeedIndex migration");
+
+        mongoTemplate.indexOps("posts")
+            .ensureIndex(new Index()
+                .on("department", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.DESC)
+                .named("department_createdAt_idx"));
+
+        log.info("V4_DepartmentFeedIndex migration completed");
+    }
+}
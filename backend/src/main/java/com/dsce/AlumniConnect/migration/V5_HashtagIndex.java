@@ -0,0 +1,51 @@
+package com.dsce.AlumniConnect.migration;
+
+import com.mongodb.client.model.Filters;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+import java.util.List;
+
+/**
+ * V5 Hashtag Index Migration
+ * Normalizes stored hashtags (no leading '#', lower case) and adds the multikey
+ * (hashtags, createdAt, _id) index behind the hashtag feed
+ */
+@Slf4j
+public class V5_HashtagIndex implements MongoDbMigrationRunner.MigrationScript {
+
+    private final MongoTemplate mongoTemplate;
+
+    public V5_HashtagIndex(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        log.info("Executing V5_HashtagIndex migration");
+
+        // Pipeline update: hashtags = setUnion(map(hashtags, lower(trim(tag, "# "))))
+        Document normalized = new Document("$setUnion", List.of(new Document("$map", new Document()
+                .append("input", "$hashtags")
+                .append("as", "tag")
+                .append("in", new Document("$toLower",
+                        new Document("$trim", new Document("input", "$$tag").append("chars", "# ")))))));
+        long modified = mongoTemplate.getCollection("posts")
+                .updateMany(Filters.type("hashtags", "array"),
+                        List.of(new Document("$set", new Document("hashtags", normalized))))
+                .getModifiedCount();
+        log.info("Normalized hashtags on {} posts", modified);
+
+        mongoTemplate.indexOps("posts")
+            .ensureIndex(new Index()
+                .on("hashtags", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.DESC)
+                .on("_id", Sort.Direction.DESC)
+                .named("hashtags_createdAt_id_idx"));
+
+        log.info("V5_HashtagIndex migration completed");
+    }
+}
@@ -0,0 +1,36 @@
+package com.dsce.AlumniConnect.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * V6 Post Deletion Jobs Migration
+ * Creates the post_deletion_jobs collection with the (status, updatedAt) index used by the stale-job sweep
+ */
+@Slf4j
+public class V6_PostDeletionJobs implements MongoDbMigrationRunner.MigrationScript {
+
+    private final MongoTemplate mongoTemplate;
+
+    public V6_PostDeletionJobs(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        log.info("Executing V6_PostDeletionJobs migration");
+
+        if (!mongoTemplate.collectionExists("post_deletion_jobs")) {
+            mongoTemplate.createCollection("post_deletion_jobs");
+        }
+        mongoTemplate.indexOps("post_deletion_jobs")
+            .ensureIndex(new Index()
+                .on("status", Sort.Direction.ASC)
+                .on("updatedAt", Sort.Direction.ASC)
+                .named("status_updatedAt_idx"));
+
+        log.info("V6_PostDeletionJobs migration completed");
+    }
+}
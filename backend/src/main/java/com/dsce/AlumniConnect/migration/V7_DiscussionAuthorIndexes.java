@@ -0,0 +1,32 @@
+package com.dsce.AlumniConnect.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * V7 Discussion Author Indexes Migration
+ * Indexes discussion topics and posts by authorId so author name/avatar refreshes do not scan the collections
+ */
+@Slf4j
+public class V7_DiscussionAuthorIndexes implements MongoDbMigrationRunner.MigrationScript {
+
+    private final MongoTemplate mongoTemplate;
+
+    public V7_DiscussionAuthorIndexes(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        log.info("Executing V7_DiscussionAuthorIndexes migration");
+
+        mongoTemplate.indexOps("discussion_topics")
+            .ensureIndex(new Index().on("authorId", Sort.Direction.ASC).named("authorId"));
+        mongoTemplate.indexOps("discussion_posts")
+            .ensureIndex(new Index().on("authorId", Sort.Direction.ASC).named("authorId"));
+
+        log.info("V7_DiscussionAuthorIndexes migration completed");
+    }
+}
@@ -0,0 +1,36 @@
+package com.dsce.AlumniConnect.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * V8 Comment Thread Index Migration
+ * Extends the postId index to (postId, isDeleted, createdAt, _id) so a post's visible comments
+ * come back in order and keyset pages need no in-memory sort
+ */
+@Slf4j
+public class V8_CommentThreadIndex implements MongoDbMigrationRunner.MigrationScript {
+
+    private final MongoTemplate mongoTemplate;
+
+    public V8_CommentThreadIndex(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        log.info("Executing V8_CommentThreadIndex migration");
+
+        mongoTemplate.indexOps("comments")
+            .ensureIndex(new Index()
+                .on("postId", Sort.Direction.ASC)
+                .on("isDeleted", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("postId_isDeleted_createdAt_id_idx"));
+
+        log.info("V8_CommentThreadIndex migration completed");
+    }
+}
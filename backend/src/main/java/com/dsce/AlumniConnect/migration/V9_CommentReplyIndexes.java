@@ -0,0 +1,44 @@
+package com.dsce.AlumniConnect.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * V9 Comment Reply Indexes Migration
+ * Indexes root comments per post and the multikey ancestors path used to load reply subtrees
+ */
+@Slf4j
+public class V9_CommentReplyIndexes implements MongoDbMigrationRunner.MigrationScript {
+
+    private final MongoTemplate mongoTemplate;
+
+    public V9_CommentReplyIndexes(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void execute() throws Exception {
+        log.info("Executing V9_CommentReplyIndexes migration");
+
+        mongoTemplate.indexOps("comments")
+            .ensureIndex(new Index()
+                .on("postId", Sort.Direction.ASC)
+                .on("parentId", Sort.Direction.ASC)
+                .on("isDeleted", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("postId_parentId_isDeleted_createdAt_id_idx"));
+
+        mongoTemplate.indexOps("comments")
+            .ensureIndex(new Index()
+                .on("ancestors", Sort.Direction.ASC)
+                .on("isDeleted", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.ASC)
+                .on("_id", Sort.Direction.ASC)
+                .named("ancestors_isDeleted_createdAt_id_idx"));
+
+        log.info("V9_CommentReplyIndexes migration completed");
+    }
+}
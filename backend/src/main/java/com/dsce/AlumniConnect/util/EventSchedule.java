@@ -0,0 +1,135 @@
+package com.dsce.AlumniConnect.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Turns the display fields events are entered with (day "12", month "DEC", starttime "10:00",
+ * endtime "17:00") into a start/end timestamp that can be indexed and range-queried.
+ *
+ * Events carry no year, so the first occurrence on or after the reference date is used:
+ * the registration deadline when there is one, otherwise the day the event was created.
+ */
+public final class EventSchedule {
+
+    private static final List<DateTimeFormatter> TIME_FORMATS = List.of(
+            DateTimeFormatter.ofPattern("H:mm"),
+            new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern("h:mm[ ]a").toFormatter(Locale.ENGLISH),
+            new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern("h[ ]a").toFormatter(Locale.ENGLISH));
+
+    private static final long DEFAULT_DURATION_HOURS = 2;
+
+    private EventSchedule() {
+    }
+
+    /**
+     * Start of the event, or null when day/month cannot be read. Without a start time the event starts at midnight.
+     */
+    public static LocalDateTime startOf(String day, String month, String starttime, LocalDate reference) {
+        Integer dayOfMonth = parseInt(day);
+        Month monthOfYear = parseMonth(month);
+        if (dayOfMonth == null || monthOfYear == null || dayOfMonth < 1 || dayOfMonth > monthOfYear.maxLength()) {
+            return null;
+        }
+
+        LocalDate date = dateOnOrAfter(monthOfYear, dayOfMonth, reference);
+        LocalTime time = parseTime(starttime);
+        return date.atTime(time != null ? time : LocalTime.MIDNIGHT);
+    }
+
+    /**
+     * End of an event starting at start; an end time before the start time means it runs past midnight.
+     * Without an end time, all-day events end at midnight and timed ones last DEFAULT_DURATION_HOURS.
+     */
+    public static LocalDateTime endOf(LocalDateTime start, String starttime, String endtime) {
+        if (start == null) {
+            return null;
+        }
+        LocalTime time = parseTime(endtime);
+        if (time == null) {
+            return parseTime(starttime) == null
+                    ? start.toLocalDate().plusDays(1).atStartOfDay()
+                    : start.plusHours(DEFAULT_DURATION_HOURS);
+        }
+        LocalDateTime end = start.toLocalDate().atTime(time);
+        return end.isAfter(start) ? end : end.plusDays(1);
+    }
+
+    // Registration deadlines are entered as ISO dates (2025-12-10); anything else is ignored
+    public static LocalDate parseDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim().length() > 10 ? date.trim().substring(0, 10) : date.trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public static String monthLabel(LocalDateTime dateTime) {
+        return dateTime.getMonth().name().substring(0, 3);
+    }
+
+    private static LocalDate dateOnOrAfter(Month month, int day, LocalDate reference) {
+        int year = reference.getYear();
+        // Feb 29 only exists in leap years
+        while (day > month.length(Year.isLeap(year)) || LocalDate.of(year, month, day).isBefore(reference)) {
+            year++;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    private static LocalTime parseTime(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (DateTimeFormatter format : TIME_FORMATS) {
+            try {
+                return LocalTime.parse(value.trim(), format);
+            } catch (DateTimeParseException ignored) {
+                // Try the next format
+            }
+        }
+        return null;
+    }
+
+    private static Month parseMonth(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Integer number = parseInt(value);
+        if (number != null) {
+            return number >= 1 && number <= 12 ? Month.of(number) : null;
+        }
+        String prefix = value.trim().toUpperCase(Locale.ENGLISH);
+        if (prefix.length() < 3) {
+            return null;
+        }
+        for (Month month : Month.values()) {
+            if (month.name().startsWith(prefix.substring(0, 3))) {
+                return month;
+            }
+        }
+        return null;
+    }
+
+    private static Integer parseInt(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.dsce.AlumniConnect.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Small thread-safe HyperLogLog cardinality estimator.
+ * 2^PRECISION one-byte registers (4 KB), standard error about 1.04 / sqrt(4096) = 1.6%.
+ * Used in-process when Redis (PFADD/PFCOUNT) is unavailable.
+ */
+public class HyperLogLog {
+
+    private static final int PRECISION = 12;
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers = new byte[REGISTERS];
+
+    public synchronized void add(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (64 - PRECISION));
+        // Position of the first 1-bit in the remaining 64 - PRECISION bits
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    public synchronized long count() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros); // Linear counting for small sets
+        }
+        return Math.round(estimate);
+    }
+
+    // 64-bit FNV-1a followed by the MurmurHash3 finalizer to spread the bits
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53e6a9bL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
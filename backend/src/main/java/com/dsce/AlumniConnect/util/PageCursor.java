@@ -0,0 +1,76 @@
+package com.dsce.AlumniConnect.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over (createdAt, _id), or another timestamp field paired with _id.
+ * Clients only ever see the encoded string, so the format can change without breaking them.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}. Returns null for a blank cursor (first page).
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Range criteria selecting everything after this cursor for a (createdAt, _id) sort in the given direction.
+     */
+    public Criteria after(Sort.Direction direction) {
+        return after("createdAt", direction);
+    }
+
+    // Same as above for another timestamp field, e.g. events paged by startAt
+    public Criteria after(String field, Sort.Direction direction) {
+        if (direction == Sort.Direction.DESC) {
+            return new Criteria().orOperator(
+                    Criteria.where(field).lt(createdAt),
+                    Criteria.where(field).is(createdAt).and("id").lt(id));
+        }
+        return new Criteria().orOperator(
+                Criteria.where(field).gt(createdAt),
+                Criteria.where(field).is(createdAt).and("id").gt(id));
+    }
+
+    public static Sort sort(Sort.Direction direction) {
+        return sort("createdAt", direction);
+    }
+
+    public static Sort sort(String field, Sort.Direction direction) {
+        return Sort.by(direction, field).and(Sort.by(direction, "id"));
+    }
+}
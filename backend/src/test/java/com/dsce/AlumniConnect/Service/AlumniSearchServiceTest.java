@@ -0,0 +1,171 @@
+package com.dsce.AlumniConnect.Service;
+
+import com.dsce.AlumniConnect.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlumniSearchServiceTest {
+
+    private AlumniSearchService search;
+
+    @BeforeEach
+    void setUp() {
+        // Only rebuild() reads Mongo; index() and search() work on the in-memory index alone
+        search = new AlumniSearchService(null);
+    }
+
+    @Test
+    void andClauseRequiresEveryTerm() {
+        search.index(alumnus("1", "Asha", "Rao", List.of("Java", "Spring"), "Google", "Engineer"));
+        search.index(alumnus("2", "Ravi", "Kumar", List.of("Java"), "Infosys", "Developer"));
+        search.index(alumnus("3", "Meera", "Iyer", List.of("Spring"), "TCS", "Architect"));
+
+        assertThat(search.search("java spring", 10)).containsExactly("1");
+        assertThat(search.search("java", 10)).containsExactlyInAnyOrder("1", "2");
+        assertThat(search.search("java golang", 10)).isEmpty();
+    }
+
+    @Test
+    void orClausesAreAlternatives() {
+        search.index(alumnus("1", "Asha", "Rao", List.of("Java"), "Google", "Engineer"));
+        search.index(alumnus("2", "Ravi", "Kumar", List.of("Golang"), "Infosys", "Developer"));
+        search.index(alumnus("3", "Meera", "Iyer", List.of("Python"), "TCS", "Architect"));
+
+        assertThat(search.search("java OR golang", 10)).containsExactlyInAnyOrder("1", "2");
+        assertThat(search.search("java | python", 10)).containsExactlyInAnyOrder("1", "3");
+        // Lower-case "or" is an ordinary term, so this is an AND that nobody matches
+        assertThat(search.search("java or golang", 10)).isEmpty();
+    }
+
+    @Test
+    void queriesAreCaseInsensitiveAndKeepSymbols() {
+        search.index(alumnus("1", "Asha", "Rao", List.of("C++", "C#"), "Google", "Engineer"));
+        search.index(alumnus("2", "Ravi", "Kumar", List.of("C"), "Infosys", "Developer"));
+
+        assertThat(search.search("c++", 10)).containsExactly("1");
+        assertThat(search.search("C#", 10)).containsExactly("1");
+        assertThat(search.search("GOOGLE", 10)).containsExactly("1");
+        assertThat(search.search("   ", 10)).isEmpty();
+        assertThat(search.search(null, 10)).isEmpty();
+    }
+
+    @Test
+    void rankingFavoursBoostedFieldsAndRareTerms() {
+        // "Kumar" as a name (boost 3) outranks "Kumar" as a company (boost 2)
+        search.index(alumnus("company", "Asha", "Rao", List.of(), "Kumar Industries", "Engineer"));
+        search.index(alumnus("name", "Ravi", "Kumar", List.of(), "Infosys", "Developer"));
+        assertThat(search.search("kumar", 10)).containsExactly("name", "company");
+
+        // In an OR, the clause with the rarer term scores higher
+        for (int i = 0; i < 20; i++) {
+            search.index(alumnus("java" + i, "Dev", "Common" + i, List.of("Java"), "Wipro", "Engineer"));
+        }
+        search.index(alumnus("rust", "Dev", "Rare", List.of("Rust"), "Wipro", "Engineer"));
+        assertThat(search.search("java OR rust", 1)).containsExactly("rust");
+    }
+
+    @Test
+    void limitKeepsTheBestMatches() {
+        for (int i = 0; i < 10; i++) {
+            search.index(alumnus("plain" + i, "Dev", "Plain" + i, List.of("Kotlin"), "Wipro", "Engineer"));
+        }
+        User strong = alumnus("strong", "Kotlin", "Fan", List.of("Kotlin"), "Kotlin Labs", "Kotlin Engineer");
+        search.index(strong);
+
+        List<String> top = search.search("kotlin", 3);
+        assertThat(top).hasSize(3);
+        assertThat(top.get(0)).isEqualTo("strong");
+    }
+
+    @Test
+    void reindexingReplacesTheOldTerms() {
+        search.index(alumnus("1", "Asha", "Rao", List.of("Java"), "Google", "Engineer"));
+        assertThat(search.search("google", 10)).containsExactly("1");
+
+        search.index(alumnus("1", "Asha", "Rao", List.of("Java"), "Microsoft", "Engineer"));
+        assertThat(search.search("google", 10)).isEmpty();
+        assertThat(search.search("microsoft", 10)).containsExactly("1");
+        assertThat(search.search("java", 10)).containsExactly("1");
+    }
+
+    @Test
+    void adminsAreRemovedFromTheIndex() {
+        User user = alumnus("1", "Asha", "Rao", List.of("Java"), "Google", "Engineer");
+        search.index(user);
+        assertThat(search.search("asha", 10)).containsExactly("1");
+
+        user.setRole(User.Role.ADMIN);
+        search.index(user);
+        assertThat(search.search("asha", 10)).isEmpty();
+        assertThat(search.search("java", 10)).isEmpty();
+    }
+
+    @Test
+    void tombstonedDocsDoNotBreakIntersection() {
+        // Re-index every other user so posting lists carry tombstones between live docs
+        for (int i = 0; i < 50; i++) {
+            search.index(alumnus("u" + i, "Dev", "User" + i, List.of("Java", "Spring"), "Wipro", "Engineer"));
+        }
+        for (int i = 0; i < 50; i += 2) {
+            search.index(alumnus("u" + i, "Dev", "User" + i, List.of("Java"), "Wipro", "Engineer"));
+        }
+
+        List<String> both = search.search("java spring", 100);
+        assertThat(both).hasSize(25).allMatch(id -> Integer.parseInt(id.substring(1)) % 2 == 1);
+        assertThat(search.search("java", 100)).hasSize(50);
+    }
+
+    @Test
+    void searchesOneHundredThousandAlumniWithinFiveMilliseconds() {
+        String[] skills = {"java", "spring", "python", "golang", "react", "aws", "kotlin", "sql", "docker", "ml"};
+        String[] companies = {"Google", "Infosys", "TCS", "Wipro", "Microsoft", "Amazon", "Accenture", "Flipkart"};
+        String[] titles = {"Engineer", "Developer", "Architect", "Manager", "Analyst", "Consultant"};
+        String[] departments = {"CSE", "ECE", "ME", "CE", "EEE", "ISE"};
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            List<String> userSkills = new ArrayList<>();
+            for (int s = 0; s < 4; s++) {
+                userSkills.add(skills[random.nextInt(skills.length)]);
+            }
+            User user = alumnus("u" + i, "First" + random.nextInt(5000), "Last" + random.nextInt(5000), userSkills,
+                    companies[random.nextInt(companies.length)], titles[random.nextInt(titles.length)]);
+            user.setDepartment(departments[random.nextInt(departments.length)]);
+            search.index(user);
+        }
+
+        String[] queries = {"java spring", "python OR golang", "google engineer", "cse java aws", "react | kotlin sql"};
+        for (int warmup = 0; warmup < 50; warmup++) {
+            search.search(queries[warmup % queries.length], 20);
+        }
+
+        int runs = 200;
+        long started = System.nanoTime();
+        for (int run = 0; run < runs; run++) {
+            assertThat(search.search(queries[run % queries.length], 20)).isNotEmpty();
+        }
+        double averageMillis = (System.nanoTime() - started) / 1_000_000.0 / runs;
+        assertThat(averageMillis).isLessThan(5.0);
+    }
+
+    private User alumnus(String id, String firstName, String lastName, List<String> skills, String company,
+            String jobTitle) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setRole(User.Role.USER);
+        user.setSkills(new ArrayList<>(skills));
+        User.WorkExperience experience = new User.WorkExperience();
+        experience.setCompany(company);
+        experience.setJobTitle(jobTitle);
+        user.setWorkExperiences(List.of(experience));
+        return user;
+    }
+}
@@ -0,0 +1,104 @@
+package com.dsce.AlumniConnect.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventScheduleTest {
+
+    private static final LocalDate REFERENCE = LocalDate.of(2025, 6, 15);
+
+    @Test
+    void readsMonthNamesAbbreviationsAndNumbers() {
+        LocalDateTime expected = LocalDateTime.of(2025, 12, 12, 10, 0);
+        assertThat(EventSchedule.startOf("12", "DEC", "10:00", REFERENCE)).isEqualTo(expected);
+        assertThat(EventSchedule.startOf("12", "december", "10:00", REFERENCE)).isEqualTo(expected);
+        assertThat(EventSchedule.startOf("12", "Dec.", "10:00", REFERENCE)).isEqualTo(expected);
+        assertThat(EventSchedule.startOf(" 12 ", "12", "10:00", REFERENCE)).isEqualTo(expected);
+    }
+
+    @Test
+    void readsTwelveAndTwentyFourHourTimes() {
+        assertThat(EventSchedule.startOf("1", "JUL", "14:30", REFERENCE)).isEqualTo(LocalDateTime.of(2025, 7, 1, 14, 30));
+        assertThat(EventSchedule.startOf("1", "JUL", "2:30 PM", REFERENCE)).isEqualTo(LocalDateTime.of(2025, 7, 1, 14, 30));
+        assertThat(EventSchedule.startOf("1", "JUL", "2:30pm", REFERENCE)).isEqualTo(LocalDateTime.of(2025, 7, 1, 14, 30));
+        assertThat(EventSchedule.startOf("1", "JUL", "9 am", REFERENCE)).isEqualTo(LocalDateTime.of(2025, 7, 1, 9, 0));
+        assertThat(EventSchedule.startOf("1", "JUL", "12 AM", REFERENCE)).isEqualTo(LocalDateTime.of(2025, 7, 1, 0, 0));
+    }
+
+    @Test
+    void missingOrUnreadableStartTimeMeansMidnight() {
+        assertThat(EventSchedule.startOf("1", "JUL", null, REFERENCE)).isEqualTo(LocalDateTime.of(2025, 7, 1, 0, 0));
+        assertThat(EventSchedule.startOf("1", "JUL", "evening", REFERENCE)).isEqualTo(LocalDateTime.of(2025, 7, 1, 0, 0));
+    }
+
+    @Test
+    void datesBeforeTheReferenceRollToNextYear() {
+        assertThat(EventSchedule.startOf("10", "JAN", "10:00", REFERENCE)).isEqualTo(LocalDateTime.of(2026, 1, 10, 10, 0));
+        // The reference day itself is still this year
+        assertThat(EventSchedule.startOf("15", "JUN", "08:00", REFERENCE)).isEqualTo(LocalDateTime.of(2025, 6, 15, 8, 0));
+    }
+
+    @Test
+    void february29thWaitsForALeapYear() {
+        assertThat(EventSchedule.startOf("29", "FEB", null, REFERENCE)).isEqualTo(LocalDateTime.of(2028, 2, 29, 0, 0));
+        assertThat(EventSchedule.startOf("29", "FEB", null, LocalDate.of(2024, 1, 1)))
+                .isEqualTo(LocalDateTime.of(2024, 2, 29, 0, 0));
+    }
+
+    @Test
+    void unreadableDatesGiveNoStart() {
+        assertThat(EventSchedule.startOf("31", "APR", "10:00", REFERENCE)).isNull();
+        assertThat(EventSchedule.startOf("30", "FEB", "10:00", REFERENCE)).isNull();
+        assertThat(EventSchedule.startOf("0", "JAN", "10:00", REFERENCE)).isNull();
+        assertThat(EventSchedule.startOf("12", "13", "10:00", REFERENCE)).isNull();
+        assertThat(EventSchedule.startOf("12", "DE", "10:00", REFERENCE)).isNull();
+        assertThat(EventSchedule.startOf("12", "Smarch", "10:00", REFERENCE)).isNull();
+        assertThat(EventSchedule.startOf("twelfth", "DEC", "10:00", REFERENCE)).isNull();
+        assertThat(EventSchedule.startOf(null, "DEC", "10:00", REFERENCE)).isNull();
+        assertThat(EventSchedule.startOf("12", null, "10:00", REFERENCE)).isNull();
+    }
+
+    @Test
+    void endTimeOnTheSameDay() {
+        LocalDateTime start = LocalDateTime.of(2025, 12, 12, 10, 0);
+        assertThat(EventSchedule.endOf(start, "10:00", "17:00")).isEqualTo(LocalDateTime.of(2025, 12, 12, 17, 0));
+    }
+
+    @Test
+    void endTimeBeforeStartRunsPastMidnight() {
+        LocalDateTime start = LocalDateTime.of(2025, 12, 31, 20, 0);
+        assertThat(EventSchedule.endOf(start, "20:00", "1:00 AM")).isEqualTo(LocalDateTime.of(2026, 1, 1, 1, 0));
+        // Equal start and end times mean a full day
+        assertThat(EventSchedule.endOf(start, "20:00", "20:00")).isEqualTo(LocalDateTime.of(2026, 1, 1, 20, 0));
+    }
+
+    @Test
+    void missingEndTimeUsesDefaults() {
+        LocalDateTime timed = LocalDateTime.of(2025, 12, 12, 10, 0);
+        assertThat(EventSchedule.endOf(timed, "10:00", null)).isEqualTo(LocalDateTime.of(2025, 12, 12, 12, 0));
+
+        LocalDateTime allDay = LocalDateTime.of(2025, 12, 12, 0, 0);
+        assertThat(EventSchedule.endOf(allDay, null, "")).isEqualTo(LocalDateTime.of(2025, 12, 13, 0, 0));
+
+        assertThat(EventSchedule.endOf(null, "10:00", "12:00")).isNull();
+    }
+
+    @Test
+    void parsesIsoDatesAndIgnoresAnythingElse() {
+        assertThat(EventSchedule.parseDate("2025-12-10")).isEqualTo(LocalDate.of(2025, 12, 10));
+        assertThat(EventSchedule.parseDate(" 2025-12-10T23:59:00 ")).isEqualTo(LocalDate.of(2025, 12, 10));
+        assertThat(EventSchedule.parseDate("10/12/2025")).isNull();
+        assertThat(EventSchedule.parseDate("2025-02-30")).isNull();
+        assertThat(EventSchedule.parseDate("")).isNull();
+        assertThat(EventSchedule.parseDate(null)).isNull();
+    }
+
+    @Test
+    void monthLabelIsTheThreeLetterAbbreviation() {
+        assertThat(EventSchedule.monthLabel(LocalDateTime.of(2025, 9, 1, 0, 0))).isEqualTo("SEP");
+    }
+}
@@ -0,0 +1,46 @@
+package com.dsce.AlumniConnect.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    void emptySketchCountsZero() {
+        assertThat(new HyperLogLog().count()).isZero();
+    }
+
+    @Test
+    void smallSetsAreCountedAlmostExactly() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            sketch.add("viewer-" + i);
+        }
+        assertThat(sketch.count()).isCloseTo(100L, within(2L));
+    }
+
+    @Test
+    void duplicatesAreNotCounted() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int repeat = 0; repeat < 10; repeat++) {
+            for (int i = 0; i < 500; i++) {
+                sketch.add("viewer-" + i);
+            }
+        }
+        assertThat(sketch.count()).isCloseTo(500L, within(15L));
+    }
+
+    @Test
+    void largeSetsStayWithinThreeStandardErrors() {
+        // Standard error is about 1.6%, so 5% is a comfortable bound
+        for (int cardinality : new int[] {10_000, 100_000, 1_000_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < cardinality; i++) {
+                sketch.add("user" + i + "@example.com");
+            }
+            assertThat((double) sketch.count()).isCloseTo(cardinality, within(cardinality * 0.05));
+        }
+    }
+}
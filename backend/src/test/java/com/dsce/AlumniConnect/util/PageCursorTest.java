@@ -0,0 +1,83 @@
+package com.dsce.AlumniConnect.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void encodeDecodeRoundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 12, 10, 18, 30, 5, 123_456_789);
+        PageCursor decoded = PageCursor.decode(new PageCursor(createdAt, "65f1c0ffee0000000000abcd").encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo("65f1c0ffee0000000000abcd");
+    }
+
+    @Test
+    void roundTripsTimesWithoutSecondsAndIdsContainingTheSeparator() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        PageCursor decoded = PageCursor.decode(new PageCursor(createdAt, "a|b").encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo("a|b");
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String cursor = new PageCursor(LocalDateTime.of(2025, 6, 1, 12, 0), "???>>>").encode();
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode("")).isNull();
+        assertThat(PageCursor.decode("   ")).isNull();
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        assertInvalid("not base64 !!!");
+        assertInvalid(encode("2025-01-01T10:00"));         // No separator
+        assertInvalid(encode("|abc"));                     // No timestamp
+        assertInvalid(encode("2025-01-01T10:00|"));        // No id
+        assertInvalid(encode("yesterday|abc"));            // Unparseable timestamp
+        assertInvalid(encode("2025-13-01T10:00|abc"));     // Month out of range
+    }
+
+    @Test
+    void sortsByTheFieldThenId() {
+        Sort sort = PageCursor.sort("startAt", Sort.Direction.ASC);
+        assertThat(sort.getOrderFor("startAt").getDirection()).isEqualTo(Sort.Direction.ASC);
+        assertThat(sort.getOrderFor("id").getDirection()).isEqualTo(Sort.Direction.ASC);
+        assertThat(PageCursor.sort(Sort.Direction.DESC).getOrderFor("createdAt").getDirection())
+                .isEqualTo(Sort.Direction.DESC);
+    }
+
+    @Test
+    void afterUsesTheSortDirection() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 1, 1, 0, 0), "abc");
+
+        assertThat(cursor.after(Sort.Direction.DESC).getCriteriaObject().toString()).contains("$lt").doesNotContain("$gt");
+        assertThat(cursor.after("startAt", Sort.Direction.ASC).getCriteriaObject().toString())
+                .contains("startAt").contains("$gt").doesNotContain("$lt");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> PageCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+}
@@ -751,8 +751,9 @@ class ApiClient {
         return response.json();
     }
 
+    // Full profiles for the admin screens; the directory pages through /alumni instead
     async getAllAlumni(): Promise<UserProfile[]> {
-        const response = await fetch(`${this.baseUrl}/alumni`, {
+        const response = await fetch(`${this.baseUrl}/api/admin/alumni`, {
             method: 'GET',
             headers: this.getHeaders(true),
         });
@@ -1246,6 +1247,7 @@ export interface DiscussionTopic {
     createdAt: string;
     updatedAt: string;
     viewCount: number;
+    uniqueViewers?: number;
     replyCount: number;
     likeCount: number;
     likedBy?: string[];
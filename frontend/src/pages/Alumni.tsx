@@ -5,107 +5,118 @@ import { Button } from '@/components/ui/Button';
 import MotionWrapper from '@/components/ui/MotionWrapper';
 import { Search, Users, Calendar, MapPin, Award, GraduationCap, Filter, X, Linkedin, Mail, Briefcase, Building2, Map as MapIcon, ChevronDown, ChevronUp } from 'lucide-react';
 import { motion, AnimatePresence } from 'framer-motion';
-import { type UserProfile, getImageUrl, apiClient } from '@/lib/api';
+import { getImageUrl, apiClient } from '@/lib/api';
 import { useToast } from '@/components/ui/use-toast';
-import { ProfileService } from '@/services/authService';
-import { useAsync } from '@/hooks/useAsync';
+import { ProfileService, type AlumniCardDTO, type AlumniPageResponse } from '@/services/authService';
 import AlumniMap from '@/components/AlumniMap';
 
+const PAGE_SIZE = 24;
+const DEPARTMENTS = ['CSE', 'ECE', 'ME', 'CE', 'EEE', 'ISE'];
+const FIRST_BATCH = 1979;
+
 export default function Alumni() {
     const [searchTerm, setSearchTerm] = useState('');
     const [selectedYear, setSelectedYear] = useState('all');
     const [selectedDepartment, setSelectedDepartment] = useState('all');
     const [selectedCompany, setSelectedCompany] = useState('all');
-    const [selectedSkills, setSelectedSkills] = useState<string[]>([]);
+    const [selectedSkill, setSelectedSkill] = useState('all');
     const [showAdvancedFilters, setShowAdvancedFilters] = useState(false);
     const [viewMode, setViewMode] = useState<'grid' | 'list' | 'map'>('grid');
     const [expandedYear, setExpandedYear] = useState<string | null>(null);
     const [connectingId, setConnectingId] = useState<string | null>(null);
     const [connectedIds, setConnectedIds] = useState<Set<string>>(new Set());
     const { toast } = useToast();
-    const { data: realAlumni, loading, error, retry } = useAsync<UserProfile[]>(
-        () => ProfileService.getAllAlumni(),
-        false
-    );
 
-    useEffect(() => {
-        if (!loading && !realAlumni && !error) retry();
-    }, []);
+    // Cards are fetched a page at a time; batch, department, company and skill are filtered on the server
+    const [cards, setCards] = useState<AlumniCardDTO[]>([]);
+    const [page, setPage] = useState(0);
+    const [hasNext, setHasNext] = useState(false);
+    const [loading, setLoading] = useState(true);
+    const [loadingMore, setLoadingMore] = useState(false);
+    // Company and skill options seen so far, kept while filters narrow the loaded cards
+    const [knownCompanies, setKnownCompanies] = useState<Set<string>>(new Set());
+    const [knownSkills, setKnownSkills] = useState<Set<string>>(new Set());
 
-    // Combine real alumni with mock data
-    const mappedRealAlumni = (realAlumni || []).map(user => {
-        const currentWork = user.workExperiences?.[0];
-        const achievements = [];
+    const fetchPage = (pageNumber: number) =>
+        ProfileService.getAlumniPage({
+            graduationYear: selectedYear !== 'all' ? parseInt(selectedYear) : undefined,
+            department: selectedDepartment !== 'all' ? selectedDepartment : undefined,
+            company: selectedCompany !== 'all' ? selectedCompany : undefined,
+            skill: selectedSkill !== 'all' ? selectedSkill : undefined,
+        }, pageNumber, PAGE_SIZE);
 
-        if (user.achievements && user.achievements.length > 0) {
-            user.achievements.forEach(ach => {
-                if (ach.title) achievements.push(ach.title);
-            });
-        }
+    const applyPage = (response: AlumniPageResponse, append: boolean) => {
+        setCards(prev => append ? [...prev, ...response.alumni] : response.alumni);
+        setPage(response.page);
+        setHasNext(response.hasNext);
+        setKnownCompanies(prev => new Set([...prev, ...response.alumni.map(a => a.company).filter((c): c is string => Boolean(c))]));
+        setKnownSkills(prev => new Set([...prev, ...response.alumni.flatMap(a => a.skills || [])]));
+    };
 
-        if (achievements.length === 0 && currentWork?.company) {
-            achievements.push(`Works at ${currentWork.company}`);
-            if (currentWork?.jobTitle) achievements.push(currentWork.jobTitle);
-        }
+    useEffect(() => {
+        let cancelled = false;
+        setLoading(true);
+        fetchPage(0)
+            .then(response => { if (!cancelled) applyPage(response, false); })
+            .catch(error => {
+                if (cancelled) return;
+                setCards([]);
+                setHasNext(false);
+                toast({ title: "Error", description: error.message || "Could not load alumni.", variant: "destructive" });
+            })
+            .finally(() => { if (!cancelled) setLoading(false); });
+        return () => { cancelled = true; };
+    }, [selectedYear, selectedDepartment, selectedCompany, selectedSkill]);
 
-        if (achievements.length < 3 && user.graduationYear) {
-            achievements.push(`Class of ${user.graduationYear}`);
+    const loadMore = async () => {
+        if (loadingMore || !hasNext) return;
+        setLoadingMore(true);
+        try {
+            applyPage(await fetchPage(page + 1), true);
+        } catch (error: any) {
+            toast({ title: "Error", description: error.message || "Could not load more alumni.", variant: "destructive" });
+        } finally {
+            setLoadingMore(false);
         }
+    };
 
+    const allAlumni = cards.map(card => {
+        const achievements: string[] = [];
+        if (card.company) {
+            achievements.push(`Works at ${card.company}`);
+            if (card.jobTitle) achievements.push(card.jobTitle);
+        }
+        if (card.graduationYear) achievements.push(`Class of ${card.graduationYear}`);
         if (achievements.length === 0) achievements.push('DSCE Alumni');
 
         return {
-            id: user.id || '',
-            name: `${user.firstName} ${user.lastName}`,
-            graduationYear: user.graduationYear || 2020,
-            department: user.department || 'Computer Science',
-            location: user.location || 'Bangalore',
-            lat: user.lat,
-            lng: user.lng,
-            company: currentWork?.company || 'Company',
-            position: currentWork?.jobTitle || user.headline || 'Alumni',
+            id: card.id,
+            name: `${card.firstName} ${card.lastName}`,
+            graduationYear: card.graduationYear || 2020,
+            department: card.department || 'Computer Science',
+            location: card.location || 'Bangalore',
+            company: card.company || 'Company',
+            position: card.jobTitle || 'Alumni',
             achievements: achievements.slice(0, 3),
-            email: user.email,
-            linkedin: user.linkedinProfile || '#',
-            image: user.profilePicture ? getImageUrl(user.profilePicture) : null,
+            email: card.email,
+            linkedin: card.linkedinProfile || '#',
+            image: card.profilePicture ? getImageUrl(card.profilePicture) : null,
             isReal: true
         };
     });
 
-    // Use only real data from backend
-    const allAlumni = [...mappedRealAlumni];
-
-    const years = [...new Set(allAlumni.map(a => a.graduationYear))].sort((a, b) => b - a);
-    const departments = [...new Set(allAlumni.map(a => a.department))].sort();
-    const companies = [...new Set(allAlumni.map(a => a.company))].sort();
-    const allSkills = [...new Set((realAlumni || []).flatMap(alum => [...(alum.skills || []), ...(alum.featuredSkills?.map(fs => fs.skill) || [])]))].sort();
+    const years = Array.from({ length: new Date().getFullYear() + 4 - FIRST_BATCH + 1 }, (_, i) => new Date().getFullYear() + 4 - i);
+    const departments = DEPARTMENTS;
+    const companies = [...knownCompanies].sort();
+    const allSkills = [...knownSkills].sort();
 
+    // The search box narrows the cards loaded so far
     const filteredAlumni = allAlumni.filter(alum => {
-        const matchesSearch = alum.name.toLowerCase().includes(searchTerm.toLowerCase()) ||
-            alum.company.toLowerCase().includes(searchTerm.toLowerCase()) ||
-            alum.location.toLowerCase().includes(searchTerm.toLowerCase()) ||
-            alum.position.toLowerCase().includes(searchTerm.toLowerCase());
-        const matchesYear = selectedYear === 'all' || alum.graduationYear === parseInt(selectedYear);
-        const matchesDepartment = selectedDepartment === 'all' || alum.department === selectedDepartment;
-        const matchesCompany = selectedCompany === 'all' || alum.company === selectedCompany;
-        
-        // For skills filtering, we need to check the original real alumni data
-        let matchesSkills = true;
-        if (selectedSkills.length > 0 && 'isReal' in alum && alum.isReal) {
-            const realAlum = (realAlumni || []).find(ra => ra.id === alum.id.split('-')[0]);
-            if (realAlum) {
-                matchesSkills = selectedSkills.every(skill => 
-                    realAlum.skills?.includes(skill) || realAlum.featuredSkills?.some(fs => fs.skill === skill)
-                );
-            } else {
-                matchesSkills = false;
-            }
-        } else if (selectedSkills.length > 0) {
-            // For mock alumni, they don't have skills data, so exclude them
-            matchesSkills = false;
-        }
-
-        return matchesSearch && matchesYear && matchesDepartment && matchesCompany && matchesSkills;
+        const term = searchTerm.toLowerCase();
+        return alum.name.toLowerCase().includes(term) ||
+            alum.company.toLowerCase().includes(term) ||
+            alum.location.toLowerCase().includes(term) ||
+            alum.position.toLowerCase().includes(term);
     });
 
     const alumniByYear = filteredAlumni.reduce((acc, alum) => {
@@ -121,7 +132,7 @@ export default function Alumni() {
         setSelectedYear('all');
         setSelectedDepartment('all');
         setSelectedCompany('all');
-        setSelectedSkills([]);
+        setSelectedSkill('all');
     };
 
     const handleConnect = async (alumId: string) => {
@@ -145,7 +156,7 @@ export default function Alumni() {
         }
     };
 
-    const hasActiveFilters = searchTerm !== '' || selectedYear !== 'all' || selectedDepartment !== 'all' || selectedCompany !== 'all' || selectedSkills.length > 0;
+    const hasActiveFilters = searchTerm !== '' || selectedYear !== 'all' || selectedDepartment !== 'all' || selectedCompany !== 'all' || selectedSkill !== 'all';
 
     return (
         <div className="min-h-screen bg-gradient-to-br from-dsce-bg-light via-dsce-bg-cream to-dsce-bg-light">
@@ -240,23 +251,16 @@ export default function Alumni() {
                                     ))}
                                 </select>
 
-                                <div className="relative">
-                                    <select
-                                        multiple
-                                        value={selectedSkills}
-                                        onChange={(e) => {
-                                            const selected = Array.from(e.target.selectedOptions, option => option.value);
-                                            setSelectedSkills(selected);
-                                        }}
-                                        className="px-4 py-2 bg-gray-50 border border-gray-200 rounded-lg focus:outline-none focus:ring-2 focus:ring-dsce-blue/20 min-h-[80px]"
-                                        size={3}
-                                    >
-                                        {allSkills.map(skill => (
-                                            <option key={skill} value={skill}>{skill}</option>
-                                        ))}
-                                    </select>
-                                    <div className="text-xs text-gray-500 mt-1">Hold Ctrl/Cmd to select multiple skills</div>
-                                </div>
+                                <select
+                                    value={selectedSkill}
+                                    onChange={(e) => setSelectedSkill(e.target.value)}
+                                    className="px-4 py-2 bg-gray-50 border border-gray-200 rounded-lg focus:outline-none focus:ring-2 focus:ring-dsce-blue/20"
+                                >
+                                    <option value="all">All Skills</option>
+                                    {allSkills.map(skill => (
+                                        <option key={skill} value={skill}>{skill}</option>
+                                    ))}
+                                </select>
                             </motion.div>
                         )}
                     </AnimatePresence>
@@ -269,7 +273,7 @@ export default function Alumni() {
                                 {selectedYear !== 'all' && <span className="inline-flex items-center px-3 py-1 rounded-full text-xs font-medium bg-dsce-blue/10 text-dsce-blue">Batch: {selectedYear}<button onClick={() => setSelectedYear('all')} className="ml-2 hover:text-dsce-blue/70"><X className="h-3 w-3" /></button></span>}
                                 {selectedDepartment !== 'all' && <span className="inline-flex items-center px-3 py-1 rounded-full text-xs font-medium bg-dsce-blue/10 text-dsce-blue">Dept: {selectedDepartment}<button onClick={() => setSelectedDepartment('all')} className="ml-2 hover:text-dsce-blue/70"><X className="h-3 w-3" /></button></span>}
                                 {selectedCompany !== 'all' && <span className="inline-flex items-center px-3 py-1 rounded-full text-xs font-medium bg-dsce-blue/10 text-dsce-blue">Company: {selectedCompany}<button onClick={() => setSelectedCompany('all')} className="ml-2 hover:text-dsce-blue/70"><X className="h-3 w-3" /></button></span>}
-                                {selectedSkills.length > 0 && <span className="inline-flex items-center px-3 py-1 rounded-full text-xs font-medium bg-dsce-blue/10 text-dsce-blue">Skills: {selectedSkills.join(', ')}<button onClick={() => setSelectedSkills([])} className="ml-2 hover:text-dsce-blue/70"><X className="h-3 w-3" /></button></span>}
+                                {selectedSkill !== 'all' && <span className="inline-flex items-center px-3 py-1 rounded-full text-xs font-medium bg-dsce-blue/10 text-dsce-blue">Skill: {selectedSkill}<button onClick={() => setSelectedSkill('all')} className="ml-2 hover:text-dsce-blue/70"><X className="h-3 w-3" /></button></span>}
                                 <button onClick={clearFilters} className="text-xs text-red-500 hover:text-red-600 font-medium ml-auto">Clear All</button>
                             </motion.div>
                         )}
@@ -280,7 +284,7 @@ export default function Alumni() {
                     <h2 className="text-2xl font-bold text-dsce-text-dark">
                         {searchTerm || selectedYear !== 'all' || selectedDepartment !== 'all' ? 'Search Results' : 'All Alumni'}
                         <span className="ml-3 text-sm font-normal text-gray-500 bg-white px-3 py-1 rounded-full border border-gray-200">
-                            {filteredAlumni.length} found
+                            {filteredAlumni.length}{hasNext ? '+' : ''} found
                         </span>
                     </h2>
                 </div>
@@ -397,6 +401,13 @@ export default function Alumni() {
                                     </AnimatePresence>
                                 </motion.div>
                             ))}
+                        {hasNext && (
+                            <div className="text-center">
+                                <Button onClick={loadMore} disabled={loadingMore} variant="outline" className="border-dsce-blue text-dsce-blue hover:bg-dsce-blue/5">
+                                    {loadingMore ? 'Loading...' : 'Load More Alumni'}
+                                </Button>
+                            </div>
+                        )}
                     </div>
                 ) : (
                     <motion.div initial={{ opacity: 0 }} animate={{ opacity: 1 }} className="text-center py-20 bg-white rounded-3xl border border-dashed border-gray-200" >
@@ -438,7 +438,7 @@ const ForumDetail = () => {
                                             </span>
                                             <span className="flex items-center gap-1">
                                                 <Eye className="w-4 h-4" />
-                                                {topic.viewCount} views
+                                                {topic.uniqueViewers ?? 0} views
                                             </span>
                                         </div>
 
@@ -303,7 +303,7 @@ const TopicDetail = () => {
                                     </>
                                 )}
                                 <span>•</span>
-                                <span>{topic.viewCount} views</span>
+                                <span>{topic.uniqueViewers ?? 0} views</span>
                             </div>
                             
                             {topic.content && (
@@ -345,6 +345,35 @@ export class JobsService {
  */
 export type UserProfileDTO = LibUserProfile;
 
+export interface AlumniCardDTO {
+  id: string;
+  firstName: string;
+  lastName: string;
+  profilePicture?: string;
+  graduationYear?: number;
+  department?: string;
+  location?: string;
+  email?: string;
+  linkedinProfile?: string;
+  jobTitle?: string;
+  company?: string;
+  skills?: string[];
+}
+
+export interface AlumniPageResponse {
+  alumni: AlumniCardDTO[];
+  page: number;
+  size: number;
+  hasNext: boolean;
+}
+
+export interface AlumniPageFilters {
+  department?: string;
+  graduationYear?: number;
+  company?: string;
+  skill?: string;
+}
+
 export class ProfileService {
   /**
    * Get current user profile
@@ -373,16 +402,17 @@ export class ProfileService {
   }
 
   /**
-   * Get all alumni profiles
+   * Get one page of alumni directory cards, newest batch first, optionally filtered
    */
-  static async getAllAlumni(): Promise<UserProfileDTO[]> {
+  static async getAlumniPage(filters: AlumniPageFilters, page: number, size: number): Promise<AlumniPageResponse> {
     try {
-      const response = await apiClient.get<UserProfileDTO[]>('/alumni');
+      const response = await apiClient.get<AlumniPageResponse>('/alumni', {
+        params: { ...filters, page, size },
+      });
       return response.data;
     } catch (error) {
       const errorMessage = handleApiError(error as AxiosError);
-      console.error(`Failed to fetch alumni: ${errorMessage}`);
-      return [];
+      throw new Error(`Failed to fetch alumni: ${errorMessage}`);
     }
   }
 